@@ -30,6 +30,7 @@ import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
 import tech.pegasys.teku.statetransition.blobs.BlockBlobSidecarsTrackersPool;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 
@@ -38,15 +39,21 @@ public class BatchImporter {
 
   private final BlockImporter blockImporter;
   private final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool;
+  private final BlobSidecarManager blobSidecarManager;
   private final AsyncRunner asyncRunner;
+  private final AsyncRunner kzgAsyncRunner;
 
   public BatchImporter(
       final BlockImporter blockImporter,
       final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool,
-      final AsyncRunner asyncRunner) {
+      final BlobSidecarManager blobSidecarManager,
+      final AsyncRunner asyncRunner,
+      final AsyncRunner kzgAsyncRunner) {
     this.blockImporter = blockImporter;
     this.blockBlobSidecarsTrackersPool = blockBlobSidecarsTrackersPool;
+    this.blobSidecarManager = blobSidecarManager;
     this.asyncRunner = asyncRunner;
+    this.kzgAsyncRunner = kzgAsyncRunner;
   }
 
   /**
@@ -54,6 +61,9 @@ public class BatchImporter {
    *
    * <p>Guaranteed to return immediately and perform the import on worker threads.
    *
+   * <p>The KZG proofs of all blob sidecars in the batch are verified together on a separate
+   * runner, so the blocks without blob sidecars can already be imported in the meantime.
+   *
    * @param batch the batch to import
    * @return a future reporting the result of the import
    */
@@ -68,9 +78,12 @@ public class BatchImporter {
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
         () -> {
+          final SafeFuture<Void> kzgPreValidation =
+              preValidateKzgProofs(blocks, blobSidecarsByBlockRoot);
           final SignedBeaconBlock firstBlock = blocks.get(0);
           SafeFuture<BlockImportResult> importResult =
-              importBlockAndBlobSidecars(firstBlock, blobSidecarsByBlockRoot, source.orElseThrow());
+              importBlockAndBlobSidecars(
+                  firstBlock, blobSidecarsByBlockRoot, kzgPreValidation, source.orElseThrow());
           for (int i = 1; i < blocks.size(); i++) {
             final SignedBeaconBlock block = blocks.get(i);
             importResult =
@@ -78,7 +91,10 @@ public class BatchImporter {
                     previousResult -> {
                       if (previousResult.isSuccessful()) {
                         return importBlockAndBlobSidecars(
-                            block, blobSidecarsByBlockRoot, source.orElseThrow());
+                            block,
+                            blobSidecarsByBlockRoot,
+                            kzgPreValidation,
+                            source.orElseThrow());
                       } else {
                         return SafeFuture.completedFuture(previousResult);
                       }
@@ -101,23 +117,47 @@ public class BatchImporter {
         });
   }
 
+  private SafeFuture<Void> preValidateKzgProofs(
+      final List<SignedBeaconBlock> blocks,
+      final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot) {
+    if (blobSidecarsByBlockRoot.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+    final List<List<BlobSidecar>> blobSidecarsByBlock =
+        blocks.stream()
+            .map(block -> blobSidecarsByBlockRoot.getOrDefault(block.getRoot(), List.of()))
+            .toList();
+    return kzgAsyncRunner
+        .runAsync(() -> blobSidecarManager.preValidateKzgProofs(blobSidecarsByBlock))
+        .exceptionally(
+            error -> {
+              // Not fatal, the blob sidecars are still fully validated when importing each block
+              LOG.debug("Failed to pre-validate KZG proofs for batch", error);
+              return null;
+            });
+  }
+
   private SafeFuture<BlockImportResult> importBlockAndBlobSidecars(
       final SignedBeaconBlock block,
       final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot,
+      final SafeFuture<Void> kzgPreValidation,
       final SyncSource source) {
     final Bytes32 blockRoot = block.getRoot();
     if (!blobSidecarsByBlockRoot.containsKey(blockRoot)) {
       return importBlock(block, source);
     }
     final List<BlobSidecar> blobSidecars = blobSidecarsByBlockRoot.get(blockRoot);
-    LOG.debug(
-        "Sending {} blob sidecars to the pool for block with root {}",
-        blobSidecars.size(),
-        blockRoot);
-    // Add blob sidecars to the pool in order for them to be available when the block is being
-    // imported
-    blockBlobSidecarsTrackersPool.onCompletedBlockAndBlobSidecars(block, blobSidecars);
-    return importBlock(block, source);
+    return kzgPreValidation.thenCompose(
+        __ -> {
+          LOG.debug(
+              "Sending {} blob sidecars to the pool for block with root {}",
+              blobSidecars.size(),
+              blockRoot);
+          // Add blob sidecars to the pool in order for them to be available when the block is
+          // being imported
+          blockBlobSidecarsTrackersPool.onCompletedBlockAndBlobSidecars(block, blobSidecars);
+          return importBlock(block, source);
+        });
   }
 
   private SafeFuture<BlockImportResult> importBlock(
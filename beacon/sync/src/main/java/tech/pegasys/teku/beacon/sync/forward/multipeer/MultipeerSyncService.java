@@ -98,7 +98,12 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             asyncRunner,
             recentChainData,
-            new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner),
+            new BatchImporter(
+                blockImporter,
+                blockBlobSidecarsTrackersPool,
+                blobSidecarManager,
+                asyncRunner,
+                asyncRunnerFactory.create("sync_kzg_verification", 1)),
             new BatchFactory(
                 eventThread, blobSidecarManager, new PeerScoringConflictResolutionStrategy()),
             batchSize,
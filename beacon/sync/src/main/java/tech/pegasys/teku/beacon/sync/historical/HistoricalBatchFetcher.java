@@ -35,6 +35,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -72,6 +73,7 @@ public class HistoricalBatchFetcher {
 
   private final Spec spec;
   private final BlobSidecarManager blobSidecarManager;
+  private final AsyncRunner asyncRunner;
   private final SafeFuture<BeaconBlockSummary> future = new SafeFuture<>();
   private final Deque<SignedBeaconBlock> blocksToImport = new ConcurrentLinkedDeque<>();
   private final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlotToImport =
@@ -83,6 +85,8 @@ public class HistoricalBatchFetcher {
 
   /**
    * @param storageUpdateChannel The storage channel where finalized blocks will be imported
+   * @param asyncRunner The runner used to verify blob sidecar KZG proofs alongside the block
+   *     signatures
    * @param peer The peer to request blocks from
    * @param maxSlot The maxSlot to pull
    * @param lastBlockRoot The block root that defines the last block in our batch
@@ -94,6 +98,7 @@ public class HistoricalBatchFetcher {
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
       final BlobSidecarManager blobSidecarManager,
+      final AsyncRunner asyncRunner,
       final Eth2Peer peer,
       final UInt64 maxSlot,
       final Bytes32 lastBlockRoot,
@@ -104,6 +109,7 @@ public class HistoricalBatchFetcher {
         chainDataClient,
         spec,
         blobSidecarManager,
+        asyncRunner,
         peer,
         maxSlot,
         lastBlockRoot,
@@ -118,6 +124,7 @@ public class HistoricalBatchFetcher {
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
       final BlobSidecarManager blobSidecarManager,
+      final AsyncRunner asyncRunner,
       final Eth2Peer peer,
       final UInt64 maxSlot,
       final Bytes32 lastBlockRoot,
@@ -128,6 +135,7 @@ public class HistoricalBatchFetcher {
     this.chainDataClient = chainDataClient;
     this.spec = spec;
     this.blobSidecarManager = blobSidecarManager;
+    this.asyncRunner = asyncRunner;
     this.peer = peer;
     this.maxSlot = maxSlot;
     this.lastBlockRoot = lastBlockRoot;
@@ -312,10 +320,12 @@ public class HistoricalBatchFetcher {
   private SafeFuture<Void> importBatch() {
     // send to signature verification and blob sidecars validation and only store blocks and blob
     // sidecars if all checks pass, or if one fails we reject the entire response
-    return batchVerifyHistoricalBlockSignatures(blocksToImport)
+    final UInt64 latestSlotInBatch = blocksToImport.getLast().getSlot();
+    return SafeFuture.allOfFailFast(
+            batchVerifyHistoricalBlockSignatures(blocksToImport),
+            preValidateBlobSidecarsKzgProofs(latestSlotInBatch, blocksToImport))
         .thenCompose(
             __ -> {
-              final UInt64 latestSlotInBatch = blocksToImport.getLast().getSlot();
               validateBlobSidecars(latestSlotInBatch, blocksToImport);
 
               final SignedBeaconBlock newEarliestBlock = blocksToImport.getFirst();
@@ -389,6 +399,27 @@ public class HistoricalBatchFetcher {
             });
   }
 
+  /**
+   * Verifies the KZG proofs of all blob sidecars in the batch at once while the block signatures
+   * are being verified. Sidecars which pass are marked as validated so {@link
+   * #validateBlobSidecars(UInt64, Collection)} doesn't need to verify them again block by block.
+   */
+  private SafeFuture<Void> preValidateBlobSidecarsKzgProofs(
+      final UInt64 latestSlotInBatch, final Collection<SignedBeaconBlock> blocks) {
+    if (!blobSidecarManager.isAvailabilityRequiredAtSlot(latestSlotInBatch)) {
+      return SafeFuture.COMPLETE;
+    }
+    final List<List<BlobSidecar>> blobSidecarsByBlock =
+        blocks.stream()
+            .map(
+                block ->
+                    blobSidecarsBySlotToImport.getOrDefault(
+                        block.getSlotAndBlockRoot(), Collections.emptyList()))
+            .toList();
+    return asyncRunner.runAsync(
+        () -> blobSidecarManager.preValidateKzgProofs(blobSidecarsByBlock));
+  }
+
   private void validateBlobSidecars(
       final UInt64 latestSlotInBatch, final Collection<SignedBeaconBlock> blocks) {
     if (!blobSidecarManager.isAvailabilityRequiredAtSlot(latestSlotInBatch)) {
@@ -291,6 +291,7 @@ public class HistoricalBlockSyncService extends Service {
         chainData,
         spec,
         blobSidecarManager,
+        asyncRunner,
         peer,
         params.getMaxSlot(),
         params.getBlockRoot(),
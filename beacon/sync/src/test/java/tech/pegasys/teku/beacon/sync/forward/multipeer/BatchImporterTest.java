@@ -42,6 +42,7 @@ import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
 import tech.pegasys.teku.statetransition.blobs.BlockBlobSidecarsTrackersPool;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 
@@ -51,12 +52,19 @@ class BatchImporterTest {
   private final BlockImporter blockImporter = mock(BlockImporter.class);
   private final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool =
       mock(BlockBlobSidecarsTrackersPool.class);
+  private final BlobSidecarManager blobSidecarManager = mock(BlobSidecarManager.class);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubAsyncRunner kzgAsyncRunner = new StubAsyncRunner();
   private final Batch batch = mock(Batch.class);
   final SyncSource syncSource = mock(SyncSource.class);
 
   private final BatchImporter importer =
-      new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner);
+      new BatchImporter(
+          blockImporter,
+          blockBlobSidecarsTrackersPool,
+          blobSidecarManager,
+          asyncRunner,
+          kzgAsyncRunner);
 
   @BeforeEach
   public void setup() {
@@ -138,6 +146,11 @@ class BatchImporterTest {
 
     asyncRunner.executeQueuedActions();
 
+    // Blob sidecars are only added once the KZG proofs of the whole batch have been verified
+    verifyNoInteractions(blockBlobSidecarsTrackersPool);
+    kzgAsyncRunner.executeQueuedActions();
+    verify(blobSidecarManager).preValidateKzgProofs(List.of(blobSidecars1, blobSidecars2));
+
     blobSidecarsImportedSuccessfully(block1, blobSidecars1);
     blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
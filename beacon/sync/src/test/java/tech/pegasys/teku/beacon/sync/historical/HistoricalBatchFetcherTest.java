@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
 import java.time.Duration;
 import java.util.Collection;
@@ -140,6 +141,7 @@ public class HistoricalBatchFetcherTest {
             chainDataClient,
             spec,
             blobSidecarManager,
+            SYNC_RUNNER,
             peer,
             lastBlockInBatch.getSlot(),
             lastBlockInBatch.getRoot(),
@@ -203,6 +205,14 @@ public class HistoricalBatchFetcherTest {
     assertThat(blockCaptor.getValue()).containsExactlyElementsOf(blockBatch);
     assertThat(blobSidecarCaptor.getValue()).isEqualTo(blobSidecarsBatch);
     assertThat(earliestBlobSidecarSlotCaptor.getValue()).contains(blockBatch.getFirst().getSlot());
+    verify(blobSidecarManager)
+        .preValidateKzgProofs(
+            blockBatch.stream()
+                .map(
+                    block ->
+                        blobSidecarsBatch.getOrDefault(
+                            block.getSlotAndBlockRoot(), Collections.emptyList()))
+                .toList());
   }
 
   @Test
@@ -271,6 +281,7 @@ public class HistoricalBatchFetcherTest {
             chainDataClient,
             spec,
             blobSidecarManager,
+            SYNC_RUNNER,
             peer,
             latestBlock.getSlot(),
             latestBlock.getRoot(),
@@ -305,6 +316,7 @@ public class HistoricalBatchFetcherTest {
             chainDataClient,
             spec,
             blobSidecarManager,
+            SYNC_RUNNER,
             peer,
             maxSlot,
             lastBlockInBatch.getRoot(),
@@ -353,6 +365,7 @@ public class HistoricalBatchFetcherTest {
             chainDataClient,
             spec,
             blobSidecarManager,
+            SYNC_RUNNER,
             peer,
             lastBlockInBatch.getSlot(),
             lastBlockInBatch.getRoot(),
@@ -0,0 +1,247 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority;
+
+/**
+ * Replays a gossip mix of unaggregated attestations, aggregates and sync committee messages through
+ * the batch signature verification paths. Throughput is reported in signature sets verified per
+ * second so different settings can be compared directly.
+ *
+ * <p>{@code minBatchSizeToSplit} only matters once a batch fails, so the service benchmark can
+ * replace every n-th attestation with an invalid one.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+public class GossipSignatureVerificationBenchmark {
+  private static final int COMMITTEE_SIZE = 128;
+  private static final int COMMITTEES = 4;
+  private static final int ATTESTATIONS = COMMITTEES * COMMITTEE_SIZE;
+  // Each aggregate carries a selection proof, the aggregate and proof signature and the aggregate
+  private static final int AGGREGATES = 16;
+  private static final int SIGNATURE_SETS_PER_AGGREGATE = 3;
+  private static final int SYNC_COMMITTEE_MESSAGES = 128;
+  private static final int SIGNATURE_SETS =
+      ATTESTATIONS + AGGREGATES * SIGNATURE_SETS_PER_AGGREGATE + SYNC_COMMITTEE_MESSAGES;
+
+  @State(Scope.Benchmark)
+  public static class GossipMix {
+    final List<SignatureSet> attestations = new ArrayList<>();
+    final List<SignatureSet> invalidAttestations = new ArrayList<>();
+    final List<List<SignatureSet>> aggregates = new ArrayList<>();
+    final List<SignatureSet> syncCommitteeMessages = new ArrayList<>();
+
+    final List<List<BLSPublicKey>> allPublicKeys = new ArrayList<>();
+    final List<Bytes> allMessages = new ArrayList<>();
+    final List<BLSSignature> allSignatures = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+      final List<BLSKeyPair> keyPairs =
+          IntStream.range(0, ATTESTATIONS).mapToObj(BLSTestUtil::randomKeyPair).toList();
+
+      for (int committee = 0; committee < COMMITTEES; committee++) {
+        final Bytes attestationData = Bytes32.random();
+        final List<BLSKeyPair> committeeKeyPairs =
+            keyPairs.subList(committee * COMMITTEE_SIZE, (committee + 1) * COMMITTEE_SIZE);
+        committeeKeyPairs.forEach(
+            keyPair -> {
+              final SignatureSet attestation = SignatureSet.sign(List.of(keyPair), attestationData);
+              attestations.add(attestation);
+              invalidAttestations.add(
+                  new SignatureSet(
+                      attestation.publicKeys(), Bytes32.random(), attestation.signature()));
+            });
+        for (int i = committee; i < AGGREGATES; i += COMMITTEES) {
+          final BLSKeyPair aggregator = committeeKeyPairs.get(i);
+          aggregates.add(
+              List.of(
+                  SignatureSet.sign(List.of(aggregator), Bytes32.random()),
+                  SignatureSet.sign(List.of(aggregator), Bytes32.random()),
+                  SignatureSet.sign(committeeKeyPairs, attestationData)));
+        }
+      }
+
+      final Bytes headBlockRoot = Bytes32.random();
+      keyPairs.stream()
+          .limit(SYNC_COMMITTEE_MESSAGES)
+          .forEach(
+              keyPair ->
+                  syncCommitteeMessages.add(SignatureSet.sign(List.of(keyPair), headBlockRoot)));
+
+      attestations.forEach(this::addToAll);
+      aggregates.forEach(aggregate -> aggregate.forEach(this::addToAll));
+      syncCommitteeMessages.forEach(this::addToAll);
+      if (allSignatures.size() != SIGNATURE_SETS) {
+        throw new IllegalStateException("Unexpected number of signature sets");
+      }
+    }
+
+    private void addToAll(final SignatureSet signatureSet) {
+      allPublicKeys.add(signatureSet.publicKeys());
+      allMessages.add(signatureSet.message());
+      allSignatures.add(signatureSet.signature());
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class VerificationService {
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    @Param({"50", "250"})
+    int maxBatchSize;
+
+    @Param({"10", "25", "100"})
+    int minBatchSizeToSplit;
+
+    // Every n-th attestation is invalid, 0 for none
+    @Param({"0", "50"})
+    int invalidAttestationInterval;
+
+    private AsyncRunnerFactory asyncRunnerFactory;
+    private AggregatingSignatureVerificationService service;
+
+    @Setup
+    public void setup() {
+      final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+      asyncRunnerFactory =
+          AsyncRunnerFactory.createDefault(new MetricTrackingExecutorFactory(metricsSystem));
+      service =
+          new AggregatingSignatureVerificationService(
+              metricsSystem,
+              asyncRunnerFactory,
+              asyncRunnerFactory.create("completion", 4),
+              threads,
+              SIGNATURE_SETS * 4,
+              maxBatchSize,
+              minBatchSizeToSplit,
+              false);
+      service.start().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+      service.stop().join();
+      asyncRunnerFactory.shutdown();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIGNATURE_SETS)
+  public void aggregatingSignatureVerificationService(
+      final GossipMix mix, final VerificationService verificationService, final Blackhole bh) {
+    final AggregatingSignatureVerificationService service = verificationService.service;
+    final List<SafeFuture<Boolean>> results = new ArrayList<>(SIGNATURE_SETS);
+    mix.aggregates.forEach(
+        aggregate ->
+            results.add(
+                service
+                    .withPriority(SignatureVerificationPriority.AGGREGATE)
+                    .verify(
+                        aggregate.stream().map(SignatureSet::publicKeys).toList(),
+                        aggregate.stream().map(SignatureSet::message).toList(),
+                        aggregate.stream().map(SignatureSet::signature).toList())));
+    mix.syncCommitteeMessages.forEach(
+        message ->
+            results.add(
+                message.verify(
+                    service.withPriority(SignatureVerificationPriority.SYNC_COMMITTEE_MESSAGE))));
+    final int invalidInterval = verificationService.invalidAttestationInterval;
+    int expectedInvalid = 0;
+    for (int i = 0; i < ATTESTATIONS; i++) {
+      final boolean invalid = invalidInterval > 0 && i % invalidInterval == 0;
+      final SignatureSet attestation =
+          invalid ? mix.invalidAttestations.get(i) : mix.attestations.get(i);
+      results.add(
+          attestation.verify(service.withPriority(SignatureVerificationPriority.ATTESTATION)));
+      if (invalid) {
+        expectedInvalid++;
+      }
+    }
+    final List<Boolean> verified = SafeFuture.collectAll(results.stream()).join();
+    if (verified.stream().filter(valid -> !valid).count() != expectedInvalid) {
+      throw new IllegalStateException("Unexpected signature verification result");
+    }
+    bh.consume(verified);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIGNATURE_SETS)
+  public void batchVerifier(final GossipMix mix) {
+    if (!BLSSignatureVerifier.SIMPLE.verify(
+        mix.allPublicKeys, mix.allMessages, mix.allSignatures)) {
+      throw new IllegalStateException("Signature verification failed");
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIGNATURE_SETS)
+  public void batchVerifyParallelDoublePairing(final GossipMix mix) {
+    if (!BLS.batchVerify(mix.allPublicKeys, mix.allMessages, mix.allSignatures, true, true)) {
+      throw new IllegalStateException("Signature verification failed");
+    }
+  }
+
+  record SignatureSet(List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
+
+    static SignatureSet sign(final List<BLSKeyPair> signers, final Bytes message) {
+      return new SignatureSet(
+          signers.stream().map(BLSKeyPair::getPublicKey).toList(),
+          message,
+          BLS.aggregate(
+              signers.stream().map(signer -> BLS.sign(signer.getSecretKey(), message)).toList()));
+    }
+
+    SafeFuture<Boolean> verify(final AsyncBLSSignatureVerifier verifier) {
+      return verifier.verify(publicKeys, message, signature);
+    }
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.benchmarks;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.apache.tuweni.bytes.Bytes;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -30,9 +31,11 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.benchmarks.util.CustomRunner;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestationSchema;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
@@ -46,8 +49,11 @@ public class IndexedAttestationValidationBenchmark {
   Spec spec;
   BeaconState beaconState;
   IndexedAttestation indexedAttestation;
+  IndexedAttestation indexedAttestationMissingFirstAttester;
+  boolean useMissingFirstAttester;
   Fork fork;
   AsyncBLSSignatureVerifier asyncBLSSignatureVerifier;
+  AsyncBLSSignatureVerifier simpleAsyncBLSSignatureVerifier;
 
   @Setup(Level.Trial)
   public void init() throws Exception {
@@ -63,9 +69,24 @@ public class IndexedAttestationValidationBenchmark {
             .getSchemaDefinitions()
             .getIndexedAttestationSchema()
             .sszDeserialize(Bytes.of(indexedAttestationBytes));
+    // Differs from the original by a single attester, so validating the two alternately exercises
+    // the near miss path of the aggregate public key cache
+    final IndexedAttestationSchema indexedAttestationSchema =
+        spec.atSlot(beaconState.getSlot()).getSchemaDefinitions().getIndexedAttestationSchema();
+    final List<UInt64> attestingIndices =
+        indexedAttestation.getAttestingIndices().asListUnboxed();
+    indexedAttestationMissingFirstAttester =
+        indexedAttestationSchema.create(
+            indexedAttestationSchema
+                .getAttestingIndicesSchema()
+                .of(attestingIndices.subList(1, attestingIndices.size())),
+            indexedAttestation.getData(),
+            indexedAttestation.getSignature());
 
     fork = spec.getForkSchedule().getFork(spec.computeEpochAtSlot(beaconState.getSlot()));
     asyncBLSSignatureVerifier = AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.NO_OP);
+    // Public keys are only aggregated when the signature is actually checked
+    simpleAsyncBLSSignatureVerifier = AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE);
   }
 
   @Benchmark
@@ -78,9 +99,23 @@ public class IndexedAttestationValidationBenchmark {
             .join());
   }
 
+  @Benchmark
+  public void validateIndexedAttestationNearMiss(Blackhole bh) {
+    useMissingFirstAttester = !useMissingFirstAttester;
+    final IndexedAttestation attestation =
+        useMissingFirstAttester ? indexedAttestationMissingFirstAttester : indexedAttestation;
+    bh.consume(
+        spec.atSlot(beaconState.getSlot())
+            .getAttestationUtil()
+            .isValidIndexedAttestationAsync(
+                fork, beaconState, attestation, simpleAsyncBLSSignatureVerifier)
+            .join());
+  }
+
   public static void main(String[] args) throws Exception {
     IndexedAttestationValidationBenchmark benchmark = new IndexedAttestationValidationBenchmark();
     benchmark.init();
     new CustomRunner(2, 10000).withBench(benchmark::validateIndexedAttestation).run();
+    new CustomRunner(2, 10000).withBench(benchmark::validateIndexedAttestationNearMiss).run();
   }
 }
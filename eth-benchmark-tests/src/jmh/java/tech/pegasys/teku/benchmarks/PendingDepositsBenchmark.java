@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.electra.MutableBeaconStateElectra;
+import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingDeposit;
+import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
+import tech.pegasys.teku.spec.datastructures.type.SszSignature;
+import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Measures process_pending_deposits against a large deposit queue. Deposits alternate between
+ * creating a new validator and topping it up, so half of the processed deposits need a signature
+ * check.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PendingDepositsBenchmark {
+  private static final int VALIDATORS_COUNT = 4096;
+  // deposits beyond the ones processed in an epoch are never looked at, so they share keys
+  private static final int UNPROCESSED_KEYS_COUNT = 256;
+  private static final UInt64 DEPOSIT_AMOUNT = UInt64.valueOf(32_000_000_000L);
+  private static final UInt64 TOP_UP_AMOUNT = UInt64.valueOf(1_000_000_000L);
+
+  @Param({"10000", "50000"})
+  int pendingDepositsCount;
+
+  @Param({"16", "1024"})
+  int maxPendingDepositsPerEpoch;
+
+  private EpochProcessor epochProcessor;
+  private BeaconState state;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Spec spec =
+        TestSpecFactory.createMinimalElectra(
+            builder ->
+                builder.electraBuilder(
+                    electra -> electra.maxPendingDepositsPerEpoch(maxPendingDepositsPerEpoch)));
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(0, spec);
+    final SchemaDefinitionsElectra schemaDefinitions =
+        SchemaDefinitionsElectra.required(spec.getGenesisSchemaDefinitions());
+    final MiscHelpers miscHelpers = spec.getGenesisSpec().miscHelpers();
+    epochProcessor = spec.getGenesisSpec().getEpochProcessor();
+
+    final List<PendingDeposit> deposits = new ArrayList<>(pendingDepositsCount);
+    final int processedCount = Math.min(maxPendingDepositsPerEpoch, pendingDepositsCount);
+    for (int i = 0; i < pendingDepositsCount; i++) {
+      final boolean isProcessed = i < processedCount;
+      final BLSKeyPair keyPair =
+          BLSTestUtil.randomKeyPair(isProcessed ? i / 2 : i % UNPROCESSED_KEYS_COUNT);
+      final UInt64 amount = i % 2 == 0 ? DEPOSIT_AMOUNT : TOP_UP_AMOUNT;
+      final Bytes32 withdrawalCredentials = dataStructureUtil.randomEth1WithdrawalCredentials();
+      // only deposits creating validators need a valid signature
+      final BLSSignature signature =
+          isProcessed && i % 2 == 0
+              ? BLS.sign(
+                  keyPair.getSecretKey(),
+                  miscHelpers.computeDepositSigningRoot(
+                      keyPair.getPublicKey(), withdrawalCredentials, amount))
+              : dataStructureUtil.randomSignature();
+      deposits.add(
+          schemaDefinitions
+              .getPendingDepositSchema()
+              .create(
+                  new SszPublicKey(keyPair.getPublicKey()),
+                  SszBytes32.of(withdrawalCredentials),
+                  SszUInt64.of(amount),
+                  new SszSignature(signature),
+                  SszUInt64.of(UInt64.ZERO)));
+    }
+
+    state =
+        dataStructureUtil
+            .randomBeaconState(VALIDATORS_COUNT)
+            .updated(
+                mutableState -> {
+                  final MutableBeaconStateElectra stateElectra =
+                      MutableBeaconStateElectra.required(mutableState);
+                  stateElectra.setPendingDeposits(
+                      schemaDefinitions.getPendingDepositsSchema().createFromElements(deposits));
+                  // make sure the churn limit doesn't stop processing
+                  stateElectra.setDepositBalanceToConsume(DEPOSIT_AMOUNT.times(processedCount));
+                });
+    state.hashTreeRoot();
+  }
+
+  @Benchmark
+  public BeaconState processPendingDeposits() {
+    return state.updated(epochProcessor::processPendingDeposits);
+  }
+}
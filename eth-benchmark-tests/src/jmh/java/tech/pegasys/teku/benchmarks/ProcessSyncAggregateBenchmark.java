@@ -13,11 +13,16 @@
 
 package tech.pegasys.teku.benchmarks;
 
+import static tech.pegasys.teku.spec.constants.NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT;
+
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -29,10 +34,12 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.benchmarks.gen.KeyFileGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -40,12 +47,22 @@ import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.Be
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregateSchema;
 import tech.pegasys.teku.spec.datastructures.interop.GenesisStateBuilder;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.ValidatableSyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
+import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.synccommittee.SignedContributionAndProofValidator;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessagePool;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessageValidator;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 
 @BenchmarkMode(Mode.SingleShotTime)
 @State(Scope.Thread)
@@ -55,6 +72,10 @@ public class ProcessSyncAggregateBenchmark {
   private Spec spec;
   private BeaconStateAltair state;
   private Iterator<SyncAggregate> syncAggregates;
+  private List<ValidatableSyncCommitteeMessage> syncCommitteeMessages;
+  private SyncCommitteeContributionPool contributionPool;
+  private final UInt64 messageSlot = UInt64.ONE;
+  private final Bytes32 messageBlockRoot = Bytes32.random();
 
   @Param({"400000"})
   int validatorsCount;
@@ -102,6 +123,67 @@ public class ProcessSyncAggregateBenchmark {
       aggregates.add(syncAggregateSchema.create(participantIndices, signature));
     }
     syncAggregates = aggregates.iterator();
+
+    initSyncCommitteePools(dataStructureUtil, syncCommitteeSize);
+  }
+
+  /**
+   * Creates a sync committee message for each member of the committee, and a contribution pool
+   * holding the contributions aggregated from them.
+   */
+  private void initSyncCommitteePools(
+      final DataStructureUtil dataStructureUtil, final int syncCommitteeSize) {
+    final SyncCommitteeUtil syncCommitteeUtil = spec.getSyncCommitteeUtilRequired(messageSlot);
+    final int subcommitteeSize = syncCommitteeUtil.getSubcommitteeSize();
+    syncCommitteeMessages = new ArrayList<>();
+    for (int i = 0; i < syncCommitteeSize; i++) {
+      final int subcommitteeIndex = i / subcommitteeSize;
+      final ValidatableSyncCommitteeMessage message =
+          ValidatableSyncCommitteeMessage.fromNetwork(
+              dataStructureUtil.randomSyncCommitteeMessage(messageSlot, messageBlockRoot),
+              subcommitteeIndex);
+      message.setSubcommitteeAssignments(
+          SyncSubcommitteeAssignments.builder()
+              .addAssignment(subcommitteeIndex, i % subcommitteeSize)
+              .build());
+      syncCommitteeMessages.add(message);
+    }
+
+    final SyncCommitteeMessagePool messagePool = createSyncCommitteeMessagePool();
+    syncCommitteeMessages.forEach(message -> messagePool.addRemote(message, Optional.empty()));
+    contributionPool =
+        new SyncCommitteeContributionPool(
+            spec,
+            new SignedContributionAndProofValidator(
+                spec, null, null, null, null, new NoOpMetricsSystem()) {
+              @Override
+              public SafeFuture<InternalValidationResult> validate(
+                  final SignedContributionAndProof proof) {
+                return SafeFuture.completedFuture(InternalValidationResult.ACCEPT);
+              }
+            });
+    for (int i = 0; i < SYNC_COMMITTEE_SUBNET_COUNT; i++) {
+      final SyncCommitteeContribution contribution =
+          messagePool.createContribution(messageSlot, messageBlockRoot, i).orElseThrow();
+      contributionPool.addRemote(
+          syncCommitteeUtil.createSignedContributionAndProof(
+              syncCommitteeUtil.createContributionAndProof(
+                  UInt64.valueOf(i), contribution, dataStructureUtil.randomSignature()),
+              dataStructureUtil.randomSignature()),
+          Optional.empty());
+    }
+  }
+
+  private SyncCommitteeMessagePool createSyncCommitteeMessagePool() {
+    return new SyncCommitteeMessagePool(
+        spec,
+        new SyncCommitteeMessageValidator(spec, null, null, null, null) {
+          @Override
+          public SafeFuture<InternalValidationResult> validate(
+              final ValidatableSyncCommitteeMessage message) {
+            return SafeFuture.completedFuture(InternalValidationResult.ACCEPT);
+          }
+        });
   }
 
   @Benchmark
@@ -112,4 +194,23 @@ public class ProcessSyncAggregateBenchmark {
     blockProcessor.processSyncAggregate(
         state.createWritableCopy(), syncAggregates.next(), BLSSignatureVerifier.NO_OP);
   }
+
+  @Benchmark
+  @Warmup(iterations = 3, batchSize = 32)
+  @Measurement(iterations = 50)
+  public void aggregateSyncCommitteeMessagesIntoContributions(final Blackhole bh) {
+    final SyncCommitteeMessagePool messagePool = createSyncCommitteeMessagePool();
+    syncCommitteeMessages.forEach(message -> messagePool.addRemote(message, Optional.empty()));
+    for (int i = 0; i < SYNC_COMMITTEE_SUBNET_COUNT; i++) {
+      bh.consume(messagePool.createContribution(messageSlot, messageBlockRoot, i));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, batchSize = 32)
+  @Measurement(iterations = 50)
+  public void createSyncAggregateForBlock(final Blackhole bh) {
+    bh.consume(
+        contributionPool.createSyncAggregateForBlock(messageSlot.plus(1), messageBlockRoot));
+  }
 }
@@ -30,18 +30,20 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
+import tech.pegasys.teku.spec.logic.common.helpers.SwapOrNotShuffler;
 
 @Fork(3)
 @BenchmarkMode(Mode.SingleShotTime)
 @State(Scope.Thread)
 public class ShuffleBenchmark {
 
-  @Param({"16384", "32768"})
+  @Param({"16384", "32768", "1048576"})
   int indexCount;
 
   Bytes32 seed = Bytes32.ZERO;
   private final Spec spec = TestSpecFactory.createMainnetPhase0();
   private final MiscHelpers miscHelpers = spec.atSlot(UInt64.ZERO).miscHelpers();
+  private final int shuffleRoundCount = spec.getGenesisSpecConfig().getShuffleRoundCount();
 
   @Benchmark
   @Warmup(iterations = 2)
@@ -62,6 +64,24 @@ public class ShuffleBenchmark {
     bh.consume(indices);
   }
 
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void shuffledListSequentialBench(Blackhole bh) {
+    int[] indices = IntStream.range(0, indexCount).toArray();
+    SwapOrNotShuffler.shuffle(indices, seed, shuffleRoundCount, false);
+    bh.consume(indices);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void shuffledListParallelBench(Blackhole bh) {
+    int[] indices = IntStream.range(0, indexCount).toArray();
+    SwapOrNotShuffler.shuffle(indices, seed, shuffleRoundCount, true);
+    bh.consume(indices);
+  }
+
   public static void main(String[] args) {
     ShuffleBenchmark benchmark = new ShuffleBenchmark();
 
@@ -69,5 +89,7 @@ public class ShuffleBenchmark {
 
     new CustomRunner(2, 2).withBench(benchmark::shuffledIndexBench).run();
     new CustomRunner(2, 2).withBench(benchmark::shuffledListBench).run();
+    new CustomRunner(2, 2).withBench(benchmark::shuffledListSequentialBench).run();
+    new CustomRunner(2, 2).withBench(benchmark::shuffledListParallelBench).run();
   }
 }
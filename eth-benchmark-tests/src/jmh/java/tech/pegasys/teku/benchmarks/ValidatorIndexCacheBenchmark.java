@@ -45,25 +45,34 @@ public class ValidatorIndexCacheBenchmark {
       dataStructureUtil.randomBeaconState(VALIDATORS_MAX_IDX + 1);
   private static final ValidatorIndexCache CACHE = new ValidatorIndexCache();
   private static final BLSPublicKey RANDOM_KEY = dataStructureUtil.randomPublicKey();
+  private static final BLSPublicKey[] KEYS = new BLSPublicKey[VALIDATORS_MAX_IDX + 1];
 
   @Setup(Level.Trial)
   public void doSetup() {
-    CACHE.getValidatorIndex(STATE, STATE.getValidators().get(VALIDATORS_MAX_IDX).getPublicKey());
+    for (int i = 0; i < KEYS.length; i++) {
+      KEYS[i] = STATE.getValidators().get(i).getPublicKey();
+    }
+    CACHE.updateLatestFinalizedIndex(STATE);
+    CACHE.getValidatorIndex(STATE, KEYS[VALIDATORS_MAX_IDX]);
   }
 
   @Benchmark
   public void cacheHit(Blackhole bh) {
     bh.consume(
         CACHE.getValidatorIndex(
-            STATE,
-            STATE
-                .getValidators()
-                .get(dataStructureUtil.randomPositiveInt(VALIDATORS_MAX_IDX))
-                .getPublicKey()));
+            STATE, KEYS[dataStructureUtil.randomPositiveInt(VALIDATORS_MAX_IDX)]));
   }
 
   @Benchmark
   public void cacheMiss(Blackhole bh) {
     bh.consume(CACHE.getValidatorIndex(STATE, RANDOM_KEY));
   }
+
+  @Benchmark
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 3)
+  public void indexFullRegistry(Blackhole bh) {
+    final ValidatorIndexCache cache = new ValidatorIndexCache();
+    bh.consume(cache.getValidatorIndex(STATE, RANDOM_KEY));
+  }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Aggregate public keys of recently verified attestations, grouped by the slot and the attesting
+ * committees.
+ *
+ * <p>The same committee is typically verified many times with identical or slightly different
+ * aggregation bits (gossip aggregates from different aggregators, then the block inclusions). An
+ * exact match reuses the cached aggregate and a near miss adjusts the closest cached aggregate by
+ * adding and subtracting only the keys that differ, instead of aggregating every key again.
+ *
+ * <p>Cached aggregates only record the validator indices they were built from and a fingerprint of
+ * their keys. A cached aggregate is only reused if adjusting that fingerprint for the keys that
+ * differ gives the fingerprint of the requested keys, so states with a different validator registry
+ * never share an aggregate.
+ *
+ * <p>The cache is bounded by the total number of validator indices it holds, evicting the least
+ * recently used groups first.
+ */
+public class AggregatePublicKeyCache {
+  static final int DEFAULT_MAX_CACHED_INDICES = 1 << 20;
+  static final int MAX_AGGREGATES_PER_GROUP = 16;
+
+  private final Map<GroupKey, Deque<CachedAggregate>> groups = new LinkedHashMap<>(16, 0.75f, true);
+  private final int maxCachedIndices;
+  private int cachedIndices;
+
+  public AggregatePublicKeyCache() {
+    this(DEFAULT_MAX_CACHED_INDICES);
+  }
+
+  public AggregatePublicKeyCache(final int maxCachedIndices) {
+    this.maxCachedIndices = maxCachedIndices;
+  }
+
+  /**
+   * Returns the aggregate of {@code publicKeys}.
+   *
+   * @param slot the attestation data slot
+   * @param committeeIndices the indices of the committees the validators attested in
+   * @param validatorIndices the sorted indices of the attesting validators
+   * @param publicKeys the public key of each validator in {@code validatorIndices}
+   * @param publicKeyLookup looks up the public key of any other validator in the same state
+   * @return the aggregate public key
+   */
+  public BLSPublicKey getAggregate(
+      final UInt64 slot,
+      final IntList committeeIndices,
+      final IntList validatorIndices,
+      final List<BLSPublicKey> publicKeys,
+      final IntFunction<Optional<BLSPublicKey>> publicKeyLookup) {
+    final GroupKey groupKey = new GroupKey(slot, committeeIndices);
+    final long fingerprint = fingerprint(validatorIndices, publicKeys);
+
+    // Adjusting a cached aggregate only pays off while it touches far fewer keys than aggregating
+    int bestCost = Math.max(1, publicKeys.size() / 2);
+    Difference best = null;
+    for (CachedAggregate candidate : getCandidates(groupKey)) {
+      final Difference difference = candidate.differenceTo(validatorIndices, bestCost);
+      if (difference != null) {
+        best = difference;
+        bestCost = difference.cost();
+      }
+    }
+
+    Optional<BLSPublicKey> adjusted = Optional.empty();
+    if (best != null) {
+      adjusted = best.apply(validatorIndices, publicKeys, fingerprint, publicKeyLookup);
+      if (adjusted.isPresent() && best.cost() == 0) {
+        return adjusted.get();
+      }
+    }
+
+    final BLSPublicKey aggregate = adjusted.orElseGet(() -> BLSPublicKey.aggregate(publicKeys));
+    if (aggregate.isValid()) {
+      add(groupKey, new CachedAggregate(validatorIndices.toIntArray(), fingerprint, aggregate));
+    }
+    return aggregate;
+  }
+
+  private synchronized List<CachedAggregate> getCandidates(final GroupKey groupKey) {
+    final Deque<CachedAggregate> group = groups.get(groupKey);
+    return group == null ? List.of() : List.copyOf(group);
+  }
+
+  private synchronized void add(final GroupKey groupKey, final CachedAggregate aggregate) {
+    final Deque<CachedAggregate> group = groups.computeIfAbsent(groupKey, __ -> new ArrayDeque<>());
+    group.addFirst(aggregate);
+    cachedIndices += aggregate.size();
+    if (group.size() > MAX_AGGREGATES_PER_GROUP) {
+      cachedIndices -= group.removeLast().size();
+    }
+
+    final Iterator<Deque<CachedAggregate>> leastRecentlyUsed = groups.values().iterator();
+    while (cachedIndices > maxCachedIndices && leastRecentlyUsed.hasNext()) {
+      for (CachedAggregate evicted : leastRecentlyUsed.next()) {
+        cachedIndices -= evicted.size();
+      }
+      leastRecentlyUsed.remove();
+    }
+  }
+
+  private static long fingerprint(final IntList validatorIndices, final List<BLSPublicKey> keys) {
+    long fingerprint = 0;
+    for (int i = 0; i < validatorIndices.size(); i++) {
+      fingerprint += digest(validatorIndices.getInt(i), keys.get(i));
+    }
+    return fingerprint;
+  }
+
+  private static long digest(final int validatorIndex, final BLSPublicKey publicKey) {
+    final long keyBits = publicKey.toBytesCompressed().getLong(Bytes48.SIZE - Long.BYTES);
+    return HashCommon.mix(keyBits ^ validatorIndex);
+  }
+
+  private record GroupKey(UInt64 slot, IntList committeeIndices) {}
+
+  private record CachedAggregate(int[] validatorIndices, long fingerprint, BLSPublicKey aggregate) {
+
+    int size() {
+      return validatorIndices.length;
+    }
+
+    /**
+     * Computes the validators to add and remove to turn this aggregate into the aggregate of {@code
+     * otherIndices}, or returns null if it would take {@code maxCost} or more changes.
+     */
+    Difference differenceTo(final IntList otherIndices, final int maxCost) {
+      final IntList addedPositions = new IntArrayList();
+      final IntList removedIndices = new IntArrayList();
+      int i = 0;
+      int j = 0;
+      while (i < validatorIndices.length || j < otherIndices.size()) {
+        if (addedPositions.size() + removedIndices.size() >= maxCost) {
+          return null;
+        }
+        final int index = i < validatorIndices.length ? validatorIndices[i] : Integer.MAX_VALUE;
+        final int otherIndex =
+            j < otherIndices.size() ? otherIndices.getInt(j) : Integer.MAX_VALUE;
+        if (index == otherIndex) {
+          i++;
+          j++;
+        } else if (index < otherIndex) {
+          removedIndices.add(validatorIndices[i++]);
+        } else {
+          addedPositions.add(j++);
+        }
+      }
+      return new Difference(this, addedPositions, removedIndices);
+    }
+  }
+
+  /**
+   * The positions of the requested validators missing from a cached aggregate, and the indices of
+   * the cached validators that were not requested.
+   */
+  private record Difference(CachedAggregate base, IntList addedPositions, IntList removedIndices) {
+
+    int cost() {
+      return addedPositions.size() + removedIndices.size();
+    }
+
+    /**
+     * Adjusts the cached aggregate, or returns empty if the keys it was built from do not match
+     * {@code fingerprint}.
+     */
+    Optional<BLSPublicKey> apply(
+        final IntList validatorIndices,
+        final List<BLSPublicKey> publicKeys,
+        final long fingerprint,
+        final IntFunction<Optional<BLSPublicKey>> publicKeyLookup) {
+      long expectedFingerprint = base.fingerprint();
+      final List<BLSPublicKey> added = new ArrayList<>(addedPositions.size() + 1);
+      added.add(base.aggregate());
+      for (int i = 0; i < addedPositions.size(); i++) {
+        final int position = addedPositions.getInt(i);
+        expectedFingerprint += digest(validatorIndices.getInt(position), publicKeys.get(position));
+        added.add(publicKeys.get(position));
+      }
+      final List<BLSPublicKey> removed = new ArrayList<>(removedIndices.size());
+      for (int i = 0; i < removedIndices.size(); i++) {
+        final int validatorIndex = removedIndices.getInt(i);
+        final Optional<BLSPublicKey> publicKey = publicKeyLookup.apply(validatorIndex);
+        if (publicKey.isEmpty()) {
+          return Optional.empty();
+        }
+        expectedFingerprint -= digest(validatorIndex, publicKey.get());
+        removed.add(publicKey.get());
+      }
+      if (expectedFingerprint != fingerprint) {
+        return Optional.empty();
+      }
+
+      BLSPublicKey result = added.size() == 1 ? base.aggregate() : BLSPublicKey.aggregate(added);
+      if (!removed.isEmpty()) {
+        result = BLSPublicKey.subtract(result, removed);
+      }
+      return Optional.of(result);
+    }
+  }
+}
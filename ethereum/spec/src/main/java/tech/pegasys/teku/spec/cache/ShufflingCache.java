@@ -0,0 +1,73 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+
+/**
+ * Committee shufflings shared between states with the same seed and active validator set, such as
+ * sibling forks and regenerated states.
+ *
+ * <p>Entries are keyed by the seed and active validator count. The seed alone does not fix the
+ * active set, since two chains can share a randao mix while including different deposits or exits,
+ * so the cached active validator indices are compared on every hit and a differing set is shuffled
+ * again. The comparison only runs when a state's own committee shuffle cache misses, and is far
+ * cheaper than the shuffle it replaces.
+ *
+ * <p>Shufflings are computed outside the lock, so concurrent misses for the same key may compute
+ * the same shuffling more than once.
+ */
+public class ShufflingCache {
+  static final int DEFAULT_CAPACITY = 8;
+
+  private final Map<ShufflingKey, Shuffling> shufflings;
+
+  public ShufflingCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ShufflingCache(final int capacity) {
+    this.shufflings = LimitedMap.createSynchronizedLRU(capacity);
+  }
+
+  public IntList get(
+      final Bytes32 seed,
+      final IntList activeValidatorIndices,
+      final Supplier<IntList> shufflingSupplier) {
+    final ShufflingKey key = new ShufflingKey(seed, activeValidatorIndices.size());
+    final Shuffling cached = shufflings.get(key);
+    if (cached != null && cached.isFor(activeValidatorIndices)) {
+      return cached.shuffledIndices();
+    }
+    final IntList shuffledIndices = shufflingSupplier.get();
+    shufflings.put(key, new Shuffling(activeValidatorIndices, shuffledIndices));
+    return shuffledIndices;
+  }
+
+  public int size() {
+    return shufflings.size();
+  }
+
+  private record ShufflingKey(Bytes32 seed, int activeValidatorCount) {}
+
+  private record Shuffling(IntList activeValidatorIndices, IntList shuffledIndices) {
+    boolean isFor(final IntList indices) {
+      return activeValidatorIndices == indices || activeValidatorIndices.equals(indices);
+    }
+  }
+}
@@ -16,26 +16,33 @@ package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes48;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.cache.Cache;
-import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
-import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
+/**
+ * (validator pub key) -> (validator index) cache shared by all copies of a state's caches.
+ *
+ * <p>The registry is indexed incrementally: a lookup which misses only reads the validators added
+ * since the last scan, and validators added to the registry by state transitions are indexed as
+ * they are appended. A key may therefore be indexed at the same index on several forks. Indices up
+ * to the latest finalized index are the same in every descendant state and are returned as is,
+ * while higher indices are checked against the state before being returned.
+ */
 public class ValidatorIndexCache {
-  private final Cache<BLSPublicKey, Integer> validatorIndices;
+  private final ValidatorPubKeyIndex validatorIndices;
   private final AtomicInteger lastCachedIndex;
 
   private static final int INDEX_NONE = -1;
   private final AtomicInteger latestFinalizedIndex;
   public static final ValidatorIndexCache NO_OP_INSTANCE =
-      new ValidatorIndexCache(NoOpCache.getNoOpCache(), INDEX_NONE, INDEX_NONE);
+      new ValidatorIndexCache(ValidatorPubKeyIndex.NO_OP, INDEX_NONE, INDEX_NONE);
 
   @VisibleForTesting
   ValidatorIndexCache(
-      final Cache<BLSPublicKey, Integer> validatorIndices,
+      final ValidatorPubKeyIndex validatorIndices,
       final int latestFinalizedIndex,
       final int lastCachedIndex) {
     this.validatorIndices = validatorIndices;
@@ -44,23 +51,31 @@ public class ValidatorIndexCache {
   }
 
   public ValidatorIndexCache() {
-    this.validatorIndices = LRUCache.create(Integer.MAX_VALUE - 1);
-    this.lastCachedIndex = new AtomicInteger(INDEX_NONE);
-    latestFinalizedIndex = new AtomicInteger(INDEX_NONE);
+    this(new ValidatorPubKeyIndex(), INDEX_NONE, INDEX_NONE);
   }
 
   public Optional<Integer> getValidatorIndex(
       final BeaconState state, final BLSPublicKey publicKey) {
-    final Optional<Integer> validatorIndex = validatorIndices.getCached(publicKey);
-    if (validatorIndex.isPresent()) {
-      return validatorIndex.filter(index -> index < state.getValidators().size());
+    final SszList<Validator> validators = state.getValidators();
+    final Bytes48 publicKeyBytes = publicKey.toBytesCompressed();
+    final int finalizedIndex = latestFinalizedIndex.get();
+    final int validatorCount = validators.size();
+    final int validatorIndex =
+        validatorIndices.find(
+            publicKeyBytes,
+            index ->
+                index < validatorCount
+                    && (index <= finalizedIndex
+                        || validators.get(index).getPubkeyBytes().equals(publicKeyBytes)));
+    if (validatorIndex != ValidatorPubKeyIndex.NOT_FOUND) {
+      return Optional.of(validatorIndex);
     }
 
-    return findIndexFromState(state.getValidators(), publicKey);
+    return findIndexFromState(validators, publicKeyBytes);
   }
 
   public void invalidateWithNewValue(final BLSPublicKey pubKey, final int updatedIndex) {
-    validatorIndices.invalidateWithNewValue(pubKey, updatedIndex);
+    validatorIndices.add(pubKey.toBytesCompressed(), updatedIndex);
   }
 
   public void updateLatestFinalizedIndex(final BeaconState finalizedState) {
@@ -88,20 +103,22 @@ public class ValidatorIndexCache {
   }
 
   private Optional<Integer> findIndexFromState(
-      final SszList<Validator> validatorList, final BLSPublicKey publicKey) {
-    final int initialCacheSize = getCacheSize();
+      final SszList<Validator> validatorList, final Bytes48 publicKey) {
+    // validators appended since the last scan may already be indexed, so progress is tracked
+    // by index rather than by cache size
+    final boolean isCaching = validatorIndices != ValidatorPubKeyIndex.NO_OP;
     for (int i = Math.max(lastCachedIndex.get() + 1, 0); i < validatorList.size(); i++) {
-      final BLSPublicKey pubKey = validatorList.get(i).getPublicKey();
-      validatorIndices.invalidateWithNewValue(pubKey, i);
+      final Bytes48 pubKey = validatorList.get(i).getPubkeyBytes();
+      validatorIndices.add(pubKey, i);
       if (pubKey.equals(publicKey)) {
-        if (initialCacheSize < getCacheSize()) {
+        if (isCaching) {
           updateLastIndex(i);
         }
         return Optional.of(i);
       }
     }
-    if (initialCacheSize < getCacheSize()) {
-      updateLastIndex(getCacheSize() - 1);
+    if (isCaching) {
+      updateLastIndex(validatorList.size() - 1);
     }
     return Optional.empty();
   }
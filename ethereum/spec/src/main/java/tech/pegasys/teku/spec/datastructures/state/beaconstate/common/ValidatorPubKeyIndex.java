@@ -0,0 +1,167 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import org.apache.tuweni.bytes.Bytes48;
+
+/**
+ * Append-only (validator pub key) -> (validator index) hash index.
+ *
+ * <p>Entries are stored in insertion order and addressed through an open addressing table keyed by
+ * the first 8 bytes of the compressed key. Full keys are always compared before an entry is
+ * returned. Entries are never removed, so a key may be present for several indices (e.g. when
+ * indexed from different forks) and callers decide which of them applies to their state.
+ *
+ * <p>Lookups are lock free. Appends are serialized and an entry is only published once it has been
+ * fully written, so readers never observe partially written entries.
+ */
+class ValidatorPubKeyIndex {
+  static final int NOT_FOUND = -1;
+
+  static final ValidatorPubKeyIndex NO_OP =
+      new ValidatorPubKeyIndex(1) {
+        @Override
+        synchronized void add(final Bytes48 publicKey, final int validatorIndex) {}
+      };
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 1 << 10;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private volatile Table table;
+  private volatile int size;
+
+  ValidatorPubKeyIndex() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  private ValidatorPubKeyIndex(final int initialCapacity) {
+    this.table = new Table(initialCapacity);
+  }
+
+  /**
+   * Returns the first validator index stored for the given key which is accepted by the filter or
+   * {@link #NOT_FOUND}
+   */
+  int find(final Bytes48 publicKey, final IntPredicate filter) {
+    // read size first, entries below it are guaranteed to be fully visible in any later table
+    final int publishedSize = size;
+    final Table table = this.table;
+    final long prefix = publicKey.getLong(0);
+    final int mask = table.slots.length - 1;
+    for (int slot = table.slotFor(prefix); ; slot = (slot + 1) & mask) {
+      final int entry = table.slots[slot] - 1;
+      if (entry < 0) {
+        return NOT_FOUND;
+      }
+      if (entry < publishedSize
+          && table.prefixes[entry] == prefix
+          && table.publicKeys[entry].equals(publicKey)
+          && filter.test(table.validatorIndices[entry])) {
+        return table.validatorIndices[entry];
+      }
+    }
+  }
+
+  boolean contains(final Bytes48 publicKey, final int validatorIndex) {
+    return find(publicKey, index -> index == validatorIndex) != NOT_FOUND;
+  }
+
+  /** Adds the (key, index) pair unless it is already present */
+  synchronized void add(final Bytes48 publicKey, final int validatorIndex) {
+    if (contains(publicKey, validatorIndex)) {
+      return;
+    }
+    final int entry = size;
+    Table table = this.table;
+    if (entry == table.entryCapacity()) {
+      table = table.grow(entry);
+      this.table = table;
+    }
+    table.insert(entry, publicKey, validatorIndex);
+    size = entry + 1;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private static class Table {
+    private final long[] prefixes;
+    private final Bytes48[] publicKeys;
+    private final int[] validatorIndices;
+    // entry + 1, 0 marks an empty slot. Kept at most half full to keep probe sequences short
+    private final int[] slots;
+    private final int shift;
+
+    private Table(final int entryCapacity) {
+      this(
+          new long[entryCapacity],
+          new Bytes48[entryCapacity],
+          new int[entryCapacity],
+          entryCapacity * 2);
+    }
+
+    private Table(
+        final long[] prefixes,
+        final Bytes48[] publicKeys,
+        final int[] validatorIndices,
+        final int slotCount) {
+      this.prefixes = prefixes;
+      this.publicKeys = publicKeys;
+      this.validatorIndices = validatorIndices;
+      this.slots = new int[slotCount];
+      this.shift = Long.numberOfLeadingZeros(slotCount - 1);
+    }
+
+    private int entryCapacity() {
+      return prefixes.length;
+    }
+
+    private int slotFor(final long prefix) {
+      return (int) ((prefix * HASH_MULTIPLIER) >>> shift);
+    }
+
+    private void insert(final int entry, final Bytes48 publicKey, final int validatorIndex) {
+      prefixes[entry] = publicKey.getLong(0);
+      publicKeys[entry] = publicKey;
+      validatorIndices[entry] = validatorIndex;
+      link(entry);
+    }
+
+    private void link(final int entry) {
+      final int mask = slots.length - 1;
+      int slot = slotFor(prefixes[entry]);
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = entry + 1;
+    }
+
+    private Table grow(final int entryCount) {
+      final int entryCapacity = entryCapacity() * 2;
+      final Table grown =
+          new Table(
+              Arrays.copyOf(prefixes, entryCapacity),
+              Arrays.copyOf(publicKeys, entryCapacity),
+              Arrays.copyOf(validatorIndices, entryCapacity),
+              entryCapacity * 2);
+      for (int entry = 0; entry < entryCount; entry++) {
+        grown.link(entry);
+      }
+      return grown;
+    }
+  }
+}
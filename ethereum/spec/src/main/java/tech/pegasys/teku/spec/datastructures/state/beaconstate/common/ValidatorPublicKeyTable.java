@@ -0,0 +1,104 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Process-wide (validator index) -> (validator pub key) table shared by all states.
+ *
+ * <p>Unlike the per-state {@link TransitionCaches#getValidatorsPubKeys()} cache, entries survive
+ * state regeneration and reloading, so each key is decompressed into its native affine point only
+ * once. An index may map to a different key on a non-finalized fork, so lookups are always checked
+ * against the compressed key bytes from the state and a mismatching entry is replaced.
+ *
+ * <p>Entries are held in fixed size chunks which are appended as the registry grows, so lookups
+ * are lock free and never copy existing entries.
+ */
+public class ValidatorPublicKeyTable {
+  private static final int CHUNK_BITS = 16;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private static final ValidatorPublicKeyTable SHARED_INSTANCE = new ValidatorPublicKeyTable();
+
+  private final List<AtomicReferenceArray<BLSPublicKey>> chunks = new CopyOnWriteArrayList<>();
+
+  public static ValidatorPublicKeyTable getSharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  public BLSPublicKey get(final int validatorIndex, final Bytes48 publicKeyBytes) {
+    final AtomicReferenceArray<BLSPublicKey> chunk =
+        getOrCreateChunk(validatorIndex >>> CHUNK_BITS);
+    final int offset = validatorIndex & CHUNK_MASK;
+    final BLSPublicKey existing = chunk.get(offset);
+    if (existing != null && existing.toBytesCompressed().equals(publicKeyBytes)) {
+      return existing;
+    }
+    final BLSPublicKey publicKey = BLSPublicKey.fromBytesCompressed(publicKeyBytes);
+    chunk.set(offset, publicKey);
+    return publicKey;
+  }
+
+  /**
+   * Loads and decompresses the keys of all validators in the given (typically finalized) state.
+   *
+   * <p>Note: the validator list is read by the calling thread only, worker threads just decompress
+   * the already extracted key bytes.
+   */
+  public void prefill(final BeaconState state) {
+    final SszList<Validator> validators = state.getValidators();
+    final Bytes48[] publicKeyBytes = new Bytes48[validators.size()];
+    for (int i = 0; i < publicKeyBytes.length; i++) {
+      publicKeyBytes[i] = validators.get(i).getPubkeyBytes();
+    }
+    IntStream.range(0, publicKeyBytes.length)
+        .parallel()
+        .forEach(i -> decompress(get(i, publicKeyBytes[i])));
+  }
+
+  private static void decompress(final BLSPublicKey publicKey) {
+    try {
+      // isValid() forces decompression and memoizes the group check used by aggregation
+      publicKey.isValid();
+    } catch (final IllegalArgumentException e) {
+      // Leave invalid keys to fail when they are actually used
+    }
+  }
+
+  public int capacity() {
+    return chunks.size() * CHUNK_SIZE;
+  }
+
+  private AtomicReferenceArray<BLSPublicKey> getOrCreateChunk(final int chunkIndex) {
+    if (chunkIndex < chunks.size()) {
+      return chunks.get(chunkIndex);
+    }
+    synchronized (this) {
+      while (chunks.size() <= chunkIndex) {
+        chunks.add(new AtomicReferenceArray<>(CHUNK_SIZE));
+      }
+    }
+    return chunks.get(chunkIndex);
+  }
+}
@@ -23,6 +23,7 @@ import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.logic.common.statetransition.EmptySlotsStateCache;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 
@@ -31,9 +32,16 @@ public class StateTransition {
   private static final Logger LOG = LogManager.getLogger();
 
   private final SpecProvider specProvider;
+  private final EmptySlotsStateCache emptySlotsStateCache;
 
   public StateTransition(final SpecProvider specProvider) {
+    this(specProvider, new EmptySlotsStateCache());
+  }
+
+  public StateTransition(
+      final SpecProvider specProvider, final EmptySlotsStateCache emptySlotsStateCache) {
     this.specProvider = specProvider;
+    this.emptySlotsStateCache = emptySlotsStateCache;
   }
 
   public BeaconState processSlots(final BeaconState preState, final UInt64 slot)
@@ -44,39 +52,15 @@ public class StateTransition {
           "process_slots: State slot %s higher than given slot %s",
           preState.getSlot(),
           slot);
-      BeaconState state = preState;
-
-      SpecVersion currentSpec = specProvider.getSpec(state.getSlot());
-      while (state.getSlot().compareTo(slot) < 0) {
-        // Transition from current to new slot (advance by 1)
-        final UInt64 currentSlot = state.getSlot();
-        final UInt64 newSlot = currentSlot.plus(1);
-        final boolean isEpochTransition =
-            newSlot.mod(currentSpec.getSlotsPerEpoch()).equals(UInt64.ZERO);
-
-        state = processSlot(currentSpec, state);
-        // Process epoch on the start slot of the next epoch
-        if (isEpochTransition) {
-          state = currentSpec.getEpochProcessor().processEpoch(state);
-        }
-        state = state.updated(s -> s.setSlot(newSlot));
-
-        // Update spec, perform state upgrades on epoch boundaries
-        if (isEpochTransition) {
-          final SpecVersion newSpec = specProvider.getSpec(newSlot);
-          if (!newSpec.getMilestone().equals(currentSpec.getMilestone())) {
-            // We've just transition to a new milestone - upgrade the state if necessary
-            final BeaconState prevMilestoneState = state;
-            state =
-                newSpec
-                    .getStateUpgrade()
-                    .map(u -> (BeaconState) u.upgrade(prevMilestoneState))
-                    .orElse(prevMilestoneState);
-            // Update spec
-            currentSpec = newSpec;
-          }
-        }
+      // The pre state root is needed to process the first slot anyway
+      final Bytes32 preStateRoot = preState.hashTreeRoot();
+      final BeaconState startState =
+          emptySlotsStateCache.getClosestAdvancedState(preStateRoot, slot).orElse(preState);
+      if (startState.getSlot().equals(slot)) {
+        return startState;
       }
+      final BeaconState state = advanceSlots(startState, slot);
+      emptySlotsStateCache.onStateAdvanced(preStateRoot, preState.getSlot(), state);
       return state;
     } catch (IllegalArgumentException e) {
       LOG.warn(e.getMessage(), e);
@@ -84,6 +68,44 @@ public class StateTransition {
     }
   }
 
+  private BeaconState advanceSlots(final BeaconState startState, final UInt64 slot)
+      throws EpochProcessingException {
+    BeaconState state = startState;
+
+    SpecVersion currentSpec = specProvider.getSpec(state.getSlot());
+    while (state.getSlot().compareTo(slot) < 0) {
+      // Transition from current to new slot (advance by 1)
+      final UInt64 currentSlot = state.getSlot();
+      final UInt64 newSlot = currentSlot.plus(1);
+      final boolean isEpochTransition =
+          newSlot.mod(currentSpec.getSlotsPerEpoch()).equals(UInt64.ZERO);
+
+      state = processSlot(currentSpec, state);
+      // Process epoch on the start slot of the next epoch
+      if (isEpochTransition) {
+        state = currentSpec.getEpochProcessor().processEpoch(state);
+      }
+      state = state.updated(s -> s.setSlot(newSlot));
+
+      // Update spec, perform state upgrades on epoch boundaries
+      if (isEpochTransition) {
+        final SpecVersion newSpec = specProvider.getSpec(newSlot);
+        if (!newSpec.getMilestone().equals(currentSpec.getMilestone())) {
+          // We've just transition to a new milestone - upgrade the state if necessary
+          final BeaconState prevMilestoneState = state;
+          state =
+              newSpec
+                  .getStateUpgrade()
+                  .map(u -> (BeaconState) u.upgrade(prevMilestoneState))
+                  .orElse(prevMilestoneState);
+          // Update spec
+          currentSpec = newSpec;
+        }
+      }
+    }
+    return state;
+  }
+
   private BeaconState processSlot(final SpecVersion spec, final BeaconState preState) {
     // Cache state root
     Bytes32 previousStateRoot = preState.hashTreeRoot();
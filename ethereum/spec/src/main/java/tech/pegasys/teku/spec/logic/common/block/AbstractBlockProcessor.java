@@ -644,11 +644,14 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
 
     Optional<AttestationProcessingResult> processResult =
         attestations.stream()
-            .map(indexedAttestationProvider::getIndexedAttestation)
             .map(
                 attestation ->
                     attestationUtil.isValidIndexedAttestation(
-                        state.getFork(), state, attestation, signatureVerifier))
+                        state.getFork(),
+                        state,
+                        indexedAttestationProvider.getIndexedAttestation(attestation),
+                        attestation,
+                        signatureVerifier))
             .filter(result -> !result.isSuccessful())
             .findAny();
     return processResult
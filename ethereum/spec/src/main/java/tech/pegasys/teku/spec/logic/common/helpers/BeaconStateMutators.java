@@ -234,9 +234,13 @@ public class BeaconStateMutators {
       final UInt64 amount) {
     final Validator validator =
         miscHelpers.getValidatorFromDeposit(pubkey, withdrawalCredentials, amount);
-    LOG.debug("Adding new validator with index {} to state", state.getValidators().size());
+    final int validatorIndex = state.getValidators().size();
+    LOG.debug("Adding new validator with index {} to state", validatorIndex);
     state.getValidators().append(validator);
     state.getBalances().appendElement(amount);
+    BeaconStateCache.getTransitionCaches(state)
+        .getValidatorIndexCache()
+        .invalidateWithNewValue(pubkey, validatorIndex);
   }
 
   public void slashValidator(
@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.kzg.KZG;
 import tech.pegasys.teku.kzg.KZGCommitment;
+import tech.pegasys.teku.spec.cache.ShufflingCache;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.constants.NetworkConstants;
@@ -65,7 +66,7 @@ public class MiscHelpers {
 
   protected final SpecConfig specConfig;
 
-  private static final byte[] EMPTY_HASH = Bytes.EMPTY.toArrayUnsafe();
+  private final ShufflingCache shufflingCache = new ShufflingCache();
 
   public MiscHelpers(final SpecConfig specConfig) {
     this.specConfig = specConfig;
@@ -207,7 +208,7 @@ public class MiscHelpers {
     }
     return BeaconStateCache.getTransitionCaches(state)
         .getCommitteeShuffle()
-        .get(seed, s -> shuffleList(indices, s))
+        .get(seed, s -> shufflingCache.get(s, indices, () -> shuffleList(indices, s)))
         .subList(fromIndex, toIndex);
   }
 
@@ -273,50 +274,7 @@ public class MiscHelpers {
   }
 
   public void shuffleList(final int[] input, final Bytes32 seed) {
-
-    int listSize = input.length;
-    if (listSize == 0) {
-      return;
-    }
-
-    final Sha256 sha256 = getSha256Instance();
-
-    for (int round = specConfig.getShuffleRoundCount() - 1; round >= 0; round--) {
-
-      final Bytes roundAsByte = Bytes.of((byte) round);
-
-      // This needs to be unsigned modulo.
-      final Bytes hash = sha256.wrappedDigest(seed, roundAsByte);
-      int pivot = bytesToUInt64(hash.slice(0, 8)).mod(listSize).intValue();
-
-      byte[] hashBytes = EMPTY_HASH;
-      int mirror1 = (pivot + 2) / 2;
-      int mirror2 = (pivot + listSize) / 2;
-      for (int i = mirror1; i <= mirror2; i++) {
-        int flip, bitIndex;
-        if (i <= pivot) {
-          flip = pivot - i;
-          bitIndex = i & 0xff;
-          if (bitIndex == 0 || i == mirror1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(i / 256));
-          }
-        } else {
-          flip = pivot + listSize - i;
-          bitIndex = flip & 0xff;
-          if (bitIndex == 0xff || i == pivot + 1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(flip / 256));
-          }
-        }
-
-        int theByte = hashBytes[bitIndex / 8];
-        int theBit = (theByte >> (bitIndex & 0x07)) & 1;
-        if (theBit != 0) {
-          int tmp = input[i];
-          input[i] = input[flip];
-          input[flip] = tmp;
-        }
-      }
-    }
+    SwapOrNotShuffler.shuffle(input, seed, specConfig.getShuffleRoundCount());
   }
 
   public Bytes computeSigningRoot(final Merkleizable object, final Bytes32 domain) {
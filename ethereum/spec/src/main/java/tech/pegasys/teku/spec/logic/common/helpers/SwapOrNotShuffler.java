@@ -0,0 +1,173 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import static tech.pegasys.teku.infrastructure.crypto.Hash.getSha256Instance;
+
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+
+/**
+ * Swap-or-not shuffle of a whole list, equivalent to calling {@code compute_shuffled_index} for
+ * every index.
+ *
+ * <p>Each round first hashes the source chunks it needs into one flat buffer, reusing the same
+ * input and output arrays, so the bit for position {@code p} is simply bit {@code p % 8} of byte
+ * {@code p / 8}. The swaps within a round touch disjoint pairs of positions, so large lists can
+ * hash and swap each round in parallel blocks.
+ */
+public class SwapOrNotShuffler {
+  static final int MIN_LIST_SIZE_FOR_PARALLEL_SHUFFLE = 1 << 16;
+
+  private static final int POSITIONS_PER_HASH = 256;
+  private static final int HASH_SIZE = 32;
+  private static final int SEED_SIZE = Bytes32.SIZE;
+  // Source hashes are computed and consumed in blocks of this many hashes per task
+  private static final int HASHES_PER_BLOCK = 64;
+
+  private SwapOrNotShuffler() {}
+
+  public static void shuffle(final int[] input, final Bytes32 seed, final int shuffleRoundCount) {
+    shuffle(input, seed, shuffleRoundCount, input.length >= MIN_LIST_SIZE_FOR_PARALLEL_SHUFFLE);
+  }
+
+  public static void shuffle(
+      final int[] input, final Bytes32 seed, final int shuffleRoundCount, final boolean parallel) {
+    final int listSize = input.length;
+    if (listSize == 0) {
+      return;
+    }
+
+    final byte[] pivotInput = new byte[SEED_SIZE + 1];
+    seed.copyTo(pivotInput);
+    final byte[] pivotHash = new byte[HASH_SIZE];
+    final byte[] hashInput = new byte[SEED_SIZE + 1 + Integer.BYTES];
+    seed.copyTo(hashInput);
+    final byte[] sourceHashes = new byte[Math.ceilDiv(listSize, POSITIONS_PER_HASH) * HASH_SIZE];
+    final Sha256 sha256 = getSha256Instance();
+
+    for (int round = shuffleRoundCount - 1; round >= 0; round--) {
+      final int pivot = computePivot(sha256, pivotInput, round, listSize, pivotHash);
+      final int mirror1 = (pivot + 2) / 2;
+      final int mirror2 = (pivot + listSize) / 2;
+
+      // Positions i in [mirror1, pivot] use their own bit, the others use the bit of their flip
+      computeSourceHashes(hashInput, round, mirror1, pivot, sourceHashes, parallel);
+      computeSourceHashes(
+          hashInput, round, pivot + listSize - mirror2, listSize - 1, sourceHashes, parallel);
+
+      if (parallel) {
+        final int blockSize = HASHES_PER_BLOCK * POSITIONS_PER_HASH;
+        final int blockCount = Math.ceilDiv(mirror2 - mirror1 + 1, blockSize);
+        IntStream.range(0, blockCount)
+            .parallel()
+            .forEach(
+                block -> {
+                  final int from = mirror1 + block * blockSize;
+                  final int to = Math.min(mirror2, from + blockSize - 1);
+                  swap(input, sourceHashes, pivot, from, to);
+                });
+      } else {
+        swap(input, sourceHashes, pivot, mirror1, mirror2);
+      }
+    }
+  }
+
+  private static int computePivot(
+      final Sha256 sha256,
+      final byte[] pivotInput,
+      final int round,
+      final int listSize,
+      final byte[] pivotHash) {
+    pivotInput[SEED_SIZE] = (byte) round;
+    sha256.digestInto(pivotInput, pivotHash, 0);
+    long value = 0;
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      value = (value << 8) | (pivotHash[i] & 0xFF);
+    }
+    // This needs to be unsigned modulo.
+    return (int) Long.remainderUnsigned(value, listSize);
+  }
+
+  private static void computeSourceHashes(
+      final byte[] hashInput,
+      final int round,
+      final int fromPosition,
+      final int toPosition,
+      final byte[] sourceHashes,
+      final boolean parallel) {
+    if (fromPosition > toPosition) {
+      return;
+    }
+    final int fromHash = fromPosition / POSITIONS_PER_HASH;
+    final int toHash = toPosition / POSITIONS_PER_HASH;
+    if (parallel) {
+      final int blockCount = Math.ceilDiv(toHash - fromHash + 1, HASHES_PER_BLOCK);
+      IntStream.range(0, blockCount)
+          .parallel()
+          .forEach(
+              block -> {
+                final int from = fromHash + block * HASHES_PER_BLOCK;
+                final int to = Math.min(toHash, from + HASHES_PER_BLOCK - 1);
+                computeSourceHashes(hashInput.clone(), round, from, to, sourceHashes);
+              });
+    } else {
+      computeSourceHashes(hashInput, round, fromHash, toHash, sourceHashes);
+    }
+  }
+
+  private static void computeSourceHashes(
+      final byte[] hashInput,
+      final int round,
+      final int fromHash,
+      final int toHash,
+      final byte[] sourceHashes) {
+    final Sha256 sha256 = getSha256Instance();
+    hashInput[SEED_SIZE] = (byte) round;
+    for (int hash = fromHash; hash <= toHash; hash++) {
+      // little endian uint32
+      hashInput[SEED_SIZE + 1] = (byte) hash;
+      hashInput[SEED_SIZE + 2] = (byte) (hash >>> 8);
+      hashInput[SEED_SIZE + 3] = (byte) (hash >>> 16);
+      hashInput[SEED_SIZE + 4] = (byte) (hash >>> 24);
+      sha256.digestInto(hashInput, sourceHashes, hash * HASH_SIZE);
+    }
+  }
+
+  private static void swap(
+      final int[] input,
+      final byte[] sourceHashes,
+      final int pivot,
+      final int fromIndex,
+      final int toIndex) {
+    final int listSize = input.length;
+    for (int i = fromIndex; i <= toIndex; i++) {
+      final int flip;
+      final int position;
+      if (i <= pivot) {
+        flip = pivot - i;
+        position = i;
+      } else {
+        flip = pivot + listSize - i;
+        position = flip;
+      }
+      if (((sourceHashes[position >>> 3] >> (position & 0x07)) & 1) != 0) {
+        final int tmp = input[i];
+        input[i] = input[flip];
+        input[flip] = tmp;
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Memoizes the results of advancing a state through empty slots, keeping the furthest advanced
+ * state for each pre state root.
+ *
+ * <p>Slot processing is deterministic, so the same result can be shared by every caller advancing
+ * the same state, e.g. block import, state regeneration and fork choice. Advancing to the cached
+ * slot returns the cached state and advancing to a later slot continues from it rather than from
+ * the pre state.
+ *
+ * <p>Only states advanced from recent pre states are kept: once a pre state more than {@link
+ * #MAX_PRE_STATE_SLOT_DISTANCE} slots newer has been advanced, states advanced from older pre
+ * states are dropped, so the cache doesn't hold on to states from abandoned or finalized parts of
+ * the chain.
+ */
+public class EmptySlotsStateCache {
+  // Advanced states share most of their tree with the pre state, but epoch transitions rewrite
+  // large parts of it, so only a few are kept
+  static final int DEFAULT_CAPACITY = 4;
+  static final int MAX_PRE_STATE_SLOT_DISTANCE = 64;
+
+  private final int capacity;
+  private final Map<Bytes32, AdvancedState> furthestAdvancedStates =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private UInt64 latestPreStateSlot = UInt64.ZERO;
+
+  public EmptySlotsStateCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public EmptySlotsStateCache(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the furthest advanced state cached for the given pre state root if it is not beyond
+   * the given slot.
+   */
+  public synchronized Optional<BeaconState> getClosestAdvancedState(
+      final Bytes32 preStateRoot, final UInt64 slot) {
+    return Optional.ofNullable(furthestAdvancedStates.get(preStateRoot))
+        .map(AdvancedState::state)
+        .filter(state -> state.getSlot().isLessThanOrEqualTo(slot));
+  }
+
+  public synchronized void onStateAdvanced(
+      final Bytes32 preStateRoot, final UInt64 preStateSlot, final BeaconState advancedState) {
+    if (preStateSlot.plus(MAX_PRE_STATE_SLOT_DISTANCE).isLessThan(latestPreStateSlot)) {
+      return;
+    }
+    final AdvancedState current = furthestAdvancedStates.get(preStateRoot);
+    if (current != null && !current.state().getSlot().isLessThan(advancedState.getSlot())) {
+      return;
+    }
+    furthestAdvancedStates.put(preStateRoot, new AdvancedState(preStateSlot, advancedState));
+    latestPreStateSlot = latestPreStateSlot.max(preStateSlot);
+
+    final Iterator<AdvancedState> iterator = furthestAdvancedStates.values().iterator();
+    while (iterator.hasNext()) {
+      final AdvancedState cached = iterator.next();
+      if (furthestAdvancedStates.size() > capacity
+          || cached
+              .preStateSlot()
+              .plus(MAX_PRE_STATE_SLOT_DISTANCE)
+              .isLessThan(latestPreStateSlot)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  synchronized int size() {
+    return furthestAdvancedStates.size();
+  }
+
+  private record AdvancedState(UInt64 preStateSlot, BeaconState state) {}
+}
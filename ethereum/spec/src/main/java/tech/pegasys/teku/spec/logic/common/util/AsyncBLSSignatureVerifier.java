@@ -20,6 +20,7 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
 
 public interface AsyncBLSSignatureVerifier {
   static AsyncBLSSignatureVerifier wrap(final BLSSignatureVerifier syncVerifier) {
@@ -39,6 +40,12 @@ public interface AsyncBLSSignatureVerifier {
         final boolean result = syncVerifier.verify(publicKeys, messages, signatures);
         return SafeFuture.completedFuture(result);
       }
+
+      @Override
+      public boolean shouldAggregatePublicKeys() {
+        return syncVerifier != BLSSignatureVerifier.NO_OP
+            && !(syncVerifier instanceof BatchSignatureVerifier);
+      }
     };
   }
 
@@ -63,4 +70,13 @@ public interface AsyncBLSSignatureVerifier {
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures);
+
+  /**
+   * Returns true if callers should aggregate public keys before passing them to this verifier. That
+   * is not worthwhile if every signature is accepted without looking at the keys, or if signatures
+   * are only collected here and aggregated when the batch is verified later.
+   */
+  default boolean shouldAggregatePublicKeys() {
+    return true;
+  }
 }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.common.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSConstants;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
@@ -33,6 +35,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.cache.AggregatePublicKeyCache;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
@@ -57,6 +60,7 @@ public abstract class AttestationUtil {
   protected final BeaconStateAccessors beaconStateAccessors;
   protected final MiscHelpers miscHelpers;
   protected final SpecConfig specConfig;
+  private final AggregatePublicKeyCache aggregatePublicKeyCache = new AggregatePublicKeyCache();
 
   public AttestationUtil(
       final SpecConfig specConfig,
@@ -182,7 +186,12 @@ public abstract class AttestationUtil {
               if (attestation.isValidIndexedAttestation()) {
                 return completedFuture(AttestationProcessingResult.SUCCESSFUL);
               }
-              return isValidIndexedAttestationAsync(fork, state, att, blsSignatureVerifier);
+              return isValidIndexedAttestationAsync(
+                  fork,
+                  state,
+                  att,
+                  Optional.of(attestation.getAttestation()),
+                  blsSignatureVerifier);
             })
         .thenApply(
             result -> {
@@ -229,11 +238,42 @@ public abstract class AttestationUtil {
     return result.getImmediately();
   }
 
+  /**
+   * Verify validity of ``indexed_attestation`` created from ``attestation``, which identifies the
+   * attesting committees so that their aggregate public key can be reused.
+   */
+  public AttestationProcessingResult isValidIndexedAttestation(
+      final Fork fork,
+      final BeaconState state,
+      final IndexedAttestation indexedAttestation,
+      final Attestation attestation,
+      final BLSSignatureVerifier signatureVerifier) {
+    final SafeFuture<AttestationProcessingResult> result =
+        isValidIndexedAttestationAsync(
+            fork,
+            state,
+            indexedAttestation,
+            Optional.of(attestation),
+            AsyncBLSSignatureVerifier.wrap(signatureVerifier));
+
+    return result.getImmediately();
+  }
+
   public SafeFuture<AttestationProcessingResult> isValidIndexedAttestationAsync(
       final Fork fork,
       final BeaconState state,
       final IndexedAttestation indexedAttestation,
       final AsyncBLSSignatureVerifier signatureVerifier) {
+    return isValidIndexedAttestationAsync(
+        fork, state, indexedAttestation, Optional.empty(), signatureVerifier);
+  }
+
+  private SafeFuture<AttestationProcessingResult> isValidIndexedAttestationAsync(
+      final Fork fork,
+      final BeaconState state,
+      final IndexedAttestation indexedAttestation,
+      final Optional<Attestation> attestation,
+      final AsyncBLSSignatureVerifier signatureVerifier) {
     final SszUInt64List indices = indexedAttestation.getAttestingIndices();
 
     if (indices.isEmpty()) {
@@ -242,6 +282,7 @@ public abstract class AttestationUtil {
     }
 
     UInt64 lastIndex = null;
+    final IntList validatorIndices = new IntArrayList(indices.size());
     final List<BLSPublicKey> pubkeys = new ArrayList<>(indices.size());
 
     for (final UInt64 index : indices.asListUnboxed()) {
@@ -257,18 +298,59 @@ public abstract class AttestationUtil {
             AttestationProcessingResult.invalid(
                 "Attesting indices include non-existent validator"));
       }
+      validatorIndices.add(index.intValue());
       pubkeys.add(validatorPubKey.get());
     }
 
+    final AttestationData data = indexedAttestation.getData();
     return validateAttestationDataSignature(
         fork,
         state,
-        Collections.unmodifiableList(pubkeys),
+        getSigningKeys(state, data, attestation, validatorIndices, pubkeys, signatureVerifier),
         indexedAttestation.getSignature(),
-        indexedAttestation.getData(),
+        data,
         signatureVerifier);
   }
 
+  private List<BLSPublicKey> getSigningKeys(
+      final BeaconState state,
+      final AttestationData data,
+      final Optional<Attestation> attestation,
+      final IntList validatorIndices,
+      final List<BLSPublicKey> pubkeys,
+      final AsyncBLSSignatureVerifier signatureVerifier) {
+    if (pubkeys.size() == 1
+        || BLSConstants.verificationDisabled
+        || !signatureVerifier.shouldAggregatePublicKeys()) {
+      return Collections.unmodifiableList(pubkeys);
+    }
+    final Optional<IntList> committeeIndices = getCommitteeIndices(data, attestation);
+    if (committeeIndices.isEmpty()) {
+      return Collections.unmodifiableList(pubkeys);
+    }
+    try {
+      return List.of(
+          aggregatePublicKeyCache.getAggregate(
+              data.getSlot(),
+              committeeIndices.get(),
+              validatorIndices,
+              pubkeys,
+              index -> beaconStateAccessors.getValidatorPubKey(state, UInt64.valueOf(index))));
+    } catch (final IllegalArgumentException e) {
+      // Leave undecodable keys for the signature verifier to reject
+      return Collections.unmodifiableList(pubkeys);
+    }
+  }
+
+  /**
+   * Returns the indices of the committees that made an attestation, or empty if they cannot be told
+   * from {@code data} alone and the attestation itself is not known.
+   */
+  protected Optional<IntList> getCommitteeIndices(
+      final AttestationData data, final Optional<Attestation> attestation) {
+    return Optional.of(IntList.of(data.getIndex().intValue()));
+  }
+
   protected SafeFuture<AttestationProcessingResult> validateAttestationDataSignature(
       final Fork fork,
       final BeaconState state,
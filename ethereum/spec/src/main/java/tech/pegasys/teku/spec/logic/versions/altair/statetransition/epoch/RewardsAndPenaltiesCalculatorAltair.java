@@ -17,7 +17,9 @@ import static tech.pegasys.teku.spec.constants.IncentivizationWeights.WEIGHT_DEN
 import static tech.pegasys.teku.spec.constants.ParticipationFlags.TIMELY_HEAD_FLAG_INDEX;
 import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
@@ -36,10 +38,13 @@ import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
 
 public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalculator {
 
+  static final int MIN_VALIDATORS_FOR_PARALLEL_PROCESSING = 8192;
+
   private final SpecConfigAltair specConfigAltair;
   private final BeaconStateAccessorsAltair beaconStateAccessorsAltair;
 
   private final BeaconStateAltair stateAltair;
+  private final int minValidatorsForParallelProcessing;
 
   public RewardsAndPenaltiesCalculatorAltair(
       final SpecConfigAltair specConfig,
@@ -47,10 +52,28 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       final ValidatorStatuses validatorStatuses,
       final MiscHelpersAltair miscHelpers,
       final BeaconStateAccessorsAltair beaconStateAccessors) {
+    this(
+        specConfig,
+        state,
+        validatorStatuses,
+        miscHelpers,
+        beaconStateAccessors,
+        MIN_VALIDATORS_FOR_PARALLEL_PROCESSING);
+  }
+
+  @VisibleForTesting
+  RewardsAndPenaltiesCalculatorAltair(
+      final SpecConfigAltair specConfig,
+      final BeaconStateAltair state,
+      final ValidatorStatuses validatorStatuses,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final int minValidatorsForParallelProcessing) {
     super(specConfig, miscHelpers, beaconStateAccessors, state, validatorStatuses);
     this.stateAltair = state;
     this.specConfigAltair = specConfig;
     this.beaconStateAccessorsAltair = beaconStateAccessors;
+    this.minValidatorsForParallelProcessing = minValidatorsForParallelProcessing;
   }
 
   /** Return attestation reward/penalty deltas for each validator */
@@ -104,29 +127,41 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     // looking it up from there for every single validator is quite expensive.
     final UInt64 baseRewardPerIncrement =
         beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
-    for (int i = 0; i < statusList.size(); i++) {
-      final ValidatorStatus validator = statusList.get(i);
-      if (!validator.isEligibleValidator()) {
-        continue;
-      }
-      final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
-
-      final UInt64 baseReward =
-          getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
-      if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
-        if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
-          validatorDeltas.reward(
-              getComponentForParticipationFlagIndex(flagIndex),
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
-        }
-      } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
-        validatorDeltas.penalize(
-            getComponentForParticipationFlagIndex(flagIndex),
-            baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
-      }
-    }
+    final boolean isInactivityLeak = isInactivityLeak();
+    final RewardComponent component = getComponentForParticipationFlagIndex(flagIndex);
+    final UInt64 rewardDenominator = activeIncrements.times(WEIGHT_DENOMINATOR);
+    validatorIndices(statusList.size())
+        .forEach(
+            i -> {
+              final ValidatorStatus validator = statusList.get(i);
+              if (!validator.isEligibleValidator()) {
+                return;
+              }
+              final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
+
+              final UInt64 baseReward =
+                  getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
+              if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
+                if (!isInactivityLeak) {
+                  final UInt64 rewardNumerator =
+                      baseReward.times(weight).times(unslashedParticipatingIncrements);
+                  validatorDeltas.reward(component, rewardNumerator.dividedBy(rewardDenominator));
+                }
+              } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
+                validatorDeltas.penalize(
+                    component, baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
+              }
+            });
+  }
+
+  /**
+   * Deltas of different validators are independent and each {@link RewardAndPenalty} is only
+   * updated by the worker handling its index, so large registries are processed in parallel. Only
+   * immutable lists and arrays may be read from the workers - SSZ views must be read upfront.
+   */
+  private IntStream validatorIndices(final int validatorCount) {
+    final IntStream indices = IntStream.range(0, validatorCount);
+    return validatorCount >= minValidatorsForParallelProcessing ? indices.parallel() : indices;
   }
 
   private RewardComponent getComponentForParticipationFlagIndex(final int index) {
@@ -169,17 +204,23 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final SszUInt64List inactivityScores = stateAltair.getInactivityScores();
     final UInt64 penaltyDenominator =
         specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
-    for (int i = 0; i < statusList.size(); i++) {
-      final ValidatorStatus validator = statusList.get(i);
-      if (!validator.isEligibleValidator()) {
-        continue;
-      }
-      if (validator.isPreviousEpochTargetAttester() && !validator.isSlashed()) {
-        continue;
-      }
-
+    // Inactivity scores are SSZ backed and not safe to read concurrently, so only the filtering
+    // runs in parallel and the scores of the (normally few) penalised validators are read after
+    final int[] penalisedIndices =
+        validatorIndices(statusList.size())
+            .filter(
+                i -> {
+                  final ValidatorStatus validator = statusList.get(i);
+                  return validator.isEligibleValidator()
+                      && (!validator.isPreviousEpochTargetAttester() || validator.isSlashed());
+                })
+            .toArray();
+    for (int i : penalisedIndices) {
       final UInt64 penaltyNumerator =
-          validator.getCurrentEpochEffectiveBalance().times(inactivityScores.get(i).get());
+          statusList
+              .get(i)
+              .getCurrentEpochEffectiveBalance()
+              .times(inactivityScores.getElement(i));
 
       final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
       deltas.getDelta(i).penalize(RewardComponent.INACTIVITY, penalty);
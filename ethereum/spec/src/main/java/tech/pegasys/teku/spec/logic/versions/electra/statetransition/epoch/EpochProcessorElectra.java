@@ -16,14 +16,25 @@ package tech.pegasys.teku.spec.logic.versions.electra.statetransition.epoch;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
+import static tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor.depositSignatureVerifier;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.impl.BlsException;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -209,6 +220,76 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
         deposit.getSignature());
   }
 
+  /**
+   * Applies the deposits selected by {@link #processPendingDeposits(MutableBeaconState)} in queue
+   * order, with the same result as calling {@link #applyPendingDeposits(MutableBeaconState,
+   * PendingDeposit)} for each of them.
+   *
+   * <p>Signatures of deposits creating new validators are batch verified up front, falling back to
+   * individual checks only if the batch fails. Balance increases are accumulated and written once
+   * per validator after all new validators have been appended.
+   */
+  private void applyPendingDeposits(
+      final MutableBeaconState state, final List<ResolvedPendingDeposit> deposits) {
+    if (deposits.isEmpty()) {
+      return;
+    }
+    final Map<BLSPublicKey, PendingDeposit> newValidatorDeposits = new LinkedHashMap<>();
+    for (final ResolvedPendingDeposit resolvedDeposit : deposits) {
+      if (resolvedDeposit.validatorIndex().isEmpty()) {
+        newValidatorDeposits.putIfAbsent(
+            resolvedDeposit.deposit().getPublicKey(), resolvedDeposit.deposit());
+      }
+    }
+    final boolean newValidatorSignaturesAreAllGood =
+        batchVerifyPendingDepositSignatures(newValidatorDeposits.values());
+
+    final Map<BLSPublicKey, Integer> addedValidatorIndices = new HashMap<>();
+    final BalanceChanges balanceChanges = new BalanceChanges(state);
+    for (final ResolvedPendingDeposit resolvedDeposit : deposits) {
+      final PendingDeposit deposit = resolvedDeposit.deposit();
+      final Optional<Integer> validatorIndex =
+          resolvedDeposit
+              .validatorIndex()
+              .or(() -> Optional.ofNullable(addedValidatorIndices.get(deposit.getPublicKey())));
+      if (validatorIndex.isPresent()) {
+        balanceChanges.increase(validatorIndex.get(), deposit.getAmount());
+      } else if (newValidatorSignaturesAreAllGood || isValidPendingDepositSignature(deposit)) {
+        // only the first deposit for a key can get here when all signatures are good
+        addedValidatorIndices.put(deposit.getPublicKey(), state.getValidators().size());
+        beaconStateMutators.addValidatorToRegistry(
+            state,
+            deposit.getPublicKey(),
+            deposit.getWithdrawalCredentials(),
+            deposit.getAmount());
+      }
+    }
+    balanceChanges.apply();
+  }
+
+  private boolean batchVerifyPendingDepositSignatures(final Collection<PendingDeposit> deposits) {
+    if (deposits.size() < 2) {
+      // nothing to gain, check individually when applying
+      return false;
+    }
+    try {
+      final List<List<BLSPublicKey>> publicKeys = new ArrayList<>(deposits.size());
+      final List<Bytes> messages = new ArrayList<>(deposits.size());
+      final List<BLSSignature> signatures = new ArrayList<>(deposits.size());
+      for (final PendingDeposit deposit : deposits) {
+        publicKeys.add(List.of(deposit.getPublicKey()));
+        messages.add(
+            miscHelpers.computeDepositSigningRoot(
+                deposit.getPublicKey(), deposit.getWithdrawalCredentials(), deposit.getAmount()));
+        signatures.add(deposit.getSignature());
+      }
+      // Overwhelmingly often we expect all the deposit signatures to be good
+      return depositSignatureVerifier.verify(publicKeys, messages, signatures);
+    } catch (final BlsException e) {
+      return false;
+    }
+  }
+
   /** process_pending_deposits */
   @Override
   public void processPendingDeposits(final MutableBeaconState state) {
@@ -222,6 +303,9 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
     UInt64 processedAmount = UInt64.ZERO;
     int nextDepositIndex = 0;
     final List<PendingDeposit> depositsToPostpone = new ArrayList<>();
+    // Whether and how a deposit is applied only depends on validators already in the state, so the
+    // queue is walked first and the selected deposits are then applied in bulk
+    final List<ResolvedPendingDeposit> depositsToApply = new ArrayList<>();
     boolean isChurnLimitReached = false;
     final UInt64 finalizedSlot =
         miscHelpers.computeStartSlotAtEpoch(stateElectra.getFinalizedCheckpoint().getEpoch());
@@ -260,7 +344,7 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
 
       if (isValidatorWithdrawn) {
         // Deposited balance will never become active. Increase balance but do not consume churn
-        applyPendingDeposits(state, deposit);
+        depositsToApply.add(new ResolvedPendingDeposit(deposit, maybeValidatorIndex));
       } else if (isValidatorExited) {
         // Validator is exiting, postpone the deposit until after withdrawable epoch
         depositsToPostpone.add(deposit);
@@ -274,18 +358,21 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
         }
         // Consume churn and apply deposit
         processedAmount = processedAmount.plus(deposit.getAmount());
-        applyPendingDeposits(state, deposit);
+        depositsToApply.add(new ResolvedPendingDeposit(deposit, maybeValidatorIndex));
       }
 
       // Regardless of how the deposit was handled, we move on in the queue
       nextDepositIndex += 1;
     }
 
+    applyPendingDeposits(state, depositsToApply);
+
     final SszMutableList<PendingDeposit> pendingDeposits = stateElectra.getPendingDeposits();
-    final ArrayList<PendingDeposit> newPendingDeposits = new ArrayList<>();
-    IntStream.range(nextDepositIndex, pendingDeposits.size())
-        .sorted()
-        .forEach(index -> newPendingDeposits.add(pendingDeposits.get(index)));
+    final List<PendingDeposit> newPendingDeposits =
+        new ArrayList<>(pendingDeposits.size() - nextDepositIndex + depositsToPostpone.size());
+    for (int index = nextDepositIndex; index < pendingDeposits.size(); index++) {
+      newPendingDeposits.add(pendingDeposits.get(index));
+    }
     newPendingDeposits.addAll(depositsToPostpone);
     stateElectra.setPendingDeposits(
         schemaDefinitionsElectra.getPendingDepositsSchema().createFromElements(newPendingDeposits));
@@ -306,6 +393,7 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
     final SszList<PendingConsolidation> pendingConsolidations =
         stateElectra.getPendingConsolidations();
     final UInt64 nextEpoch = stateAccessorsElectra.getCurrentEpoch(state).plus(1L);
+    final BalanceChanges balanceChanges = new BalanceChanges(state);
 
     for (final PendingConsolidation pendingConsolidation : pendingConsolidations) {
       final Validator sourceValidator =
@@ -320,19 +408,16 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
 
       // Calculate the consolidated balance
       final UInt64 sourceEffectiveBalance =
-          state
-              .getBalances()
+          balanceChanges
               .get(pendingConsolidation.getSourceIndex())
-              .get()
               .min(sourceValidator.getEffectiveBalance());
       // Move active balance to target. Excess balance is withdrawable.
-      beaconStateMutators.decreaseBalance(
-          state, pendingConsolidation.getSourceIndex(), sourceEffectiveBalance);
-      beaconStateMutators.increaseBalance(
-          state, pendingConsolidation.getTargetIndex(), sourceEffectiveBalance);
+      balanceChanges.decrease(pendingConsolidation.getSourceIndex(), sourceEffectiveBalance);
+      balanceChanges.increase(pendingConsolidation.getTargetIndex(), sourceEffectiveBalance);
 
       nextPendingBalanceConsolidation++;
     }
+    balanceChanges.apply();
     if (pendingConsolidations.size() <= nextPendingBalanceConsolidation) {
       stateElectra.setPendingConsolidations(
           schemaDefinitionsElectra.getPendingConsolidationsSchema().createFromElements(List.of()));
@@ -386,4 +471,39 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
   protected boolean shouldCheckNewValidatorsDuringEpochProcessing() {
     return true;
   }
+
+  private record ResolvedPendingDeposit(PendingDeposit deposit, Optional<Integer> validatorIndex) {}
+
+  /**
+   * Accumulates balance changes so that each balance is written back to the state once, however
+   * many deposits or consolidations touch it
+   */
+  private static class BalanceChanges {
+    private final MutableBeaconState state;
+    private final Int2ObjectMap<UInt64> updatedBalances = new Int2ObjectOpenHashMap<>();
+
+    private BalanceChanges(final MutableBeaconState state) {
+      this.state = state;
+    }
+
+    private UInt64 get(final int index) {
+      final UInt64 updatedBalance = updatedBalances.get(index);
+      return updatedBalance != null ? updatedBalance : state.getBalances().getElement(index);
+    }
+
+    private void increase(final int index, final UInt64 delta) {
+      updatedBalances.put(index, get(index).plus(delta));
+    }
+
+    private void decrease(final int index, final UInt64 delta) {
+      updatedBalances.put(index, get(index).minusMinZero(delta));
+    }
+
+    private void apply() {
+      final SszMutableUInt64List balances = state.getBalances();
+      updatedBalances
+          .int2ObjectEntrySet()
+          .forEach(entry -> balances.setElement(entry.getIntKey(), entry.getValue()));
+    }
+  }
 }
@@ -26,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
@@ -134,6 +135,13 @@ public class AttestationUtilElectra extends AttestationUtilDeneb {
         attestation.getSignature());
   }
 
+  @Override
+  protected Optional<IntList> getCommitteeIndices(
+      final AttestationData data, final Optional<Attestation> attestation) {
+    // The data index is always zero, the committees are only known from the committee bits
+    return attestation.flatMap(Attestation::getCommitteeBits).map(SszBitvector::getAllSetBits);
+  }
+
   @Override
   public SafeFuture<AttestationProcessingResult> isValidIndexedAttestationAsync(
       final Fork fork,
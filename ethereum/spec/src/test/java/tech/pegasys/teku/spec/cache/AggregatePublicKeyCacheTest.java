@@ -0,0 +1,141 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class AggregatePublicKeyCacheTest {
+  private static final List<BLSPublicKey> KEYS =
+      IntStream.range(0, 16).mapToObj(BLSTestUtil::randomPublicKey).toList();
+
+  private final List<BLSPublicKey> registry = new ArrayList<>(KEYS);
+  private final AggregatePublicKeyCache cache = new AggregatePublicKeyCache();
+
+  @Test
+  void shouldReuseAggregateForSameValidators() {
+    final BLSPublicKey first = getAggregate(UInt64.ONE, 0, 1, 2, 3);
+    final BLSPublicKey second = getAggregate(UInt64.ONE, 0, 1, 2, 3);
+
+    assertThat(second).isSameAs(first).isEqualTo(aggregate(0, 1, 2, 3));
+  }
+
+  @Test
+  void shouldAdjustCachedAggregateForNearMiss() {
+    getAggregate(UInt64.ONE, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    assertThat(getAggregate(UInt64.ONE, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+        .isEqualTo(aggregate(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    assertThat(getAggregate(UInt64.ONE, 0, 2, 3, 4, 5, 6, 7, 8, 9))
+        .isEqualTo(aggregate(0, 2, 3, 4, 5, 6, 7, 8, 9));
+    assertThat(getAggregate(UInt64.ONE, 1, 2, 3, 4, 5, 6, 7, 8, 9, 11))
+        .isEqualTo(aggregate(1, 2, 3, 4, 5, 6, 7, 8, 9, 11));
+  }
+
+  @Test
+  void shouldAggregateFromScratchWhenTooManyKeysDiffer() {
+    getAggregate(UInt64.ONE, 0, 1, 2, 3);
+
+    assertThat(getAggregate(UInt64.ONE, 4, 5, 6, 7)).isEqualTo(aggregate(4, 5, 6, 7));
+  }
+
+  @Test
+  void shouldNotShareAggregatesBetweenSlots() {
+    final BLSPublicKey first = getAggregate(UInt64.ONE, 0, 1, 2, 3);
+
+    assertThat(getAggregate(UInt64.valueOf(2), 0, 1, 2, 3)).isNotSameAs(first);
+  }
+
+  @Test
+  void shouldNotShareAggregatesBetweenCommittees() {
+    final IntList indices = IntList.of(0, 1, 2, 3);
+    final List<BLSPublicKey> keys = keys(0, 1, 2, 3);
+    final BLSPublicKey first =
+        cache.getAggregate(UInt64.ONE, IntList.of(0), indices, keys, this::lookup);
+
+    assertThat(cache.getAggregate(UInt64.ONE, IntList.of(1), indices, keys, this::lookup))
+        .isNotSameAs(first);
+    assertThat(cache.getAggregate(UInt64.ONE, IntList.of(0, 1), indices, keys, this::lookup))
+        .isNotSameAs(first);
+  }
+
+  @Test
+  void shouldNotReuseAggregateWhenValidatorKeyDiffers() {
+    final BLSPublicKey first = getAggregate(UInt64.ONE, 0, 1, 2, 3);
+
+    registry.set(3, KEYS.get(15));
+
+    assertThat(getAggregate(UInt64.ONE, 0, 1, 2, 3))
+        .isNotSameAs(first)
+        .isEqualTo(BLSPublicKey.aggregate(keys(0, 1, 2, 3)));
+  }
+
+  @Test
+  void shouldNotAdjustAggregateWhenRemovedValidatorKeyDiffers() {
+    getAggregate(UInt64.ONE, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    registry.set(9, KEYS.get(15));
+
+    assertThat(getAggregate(UInt64.ONE, 0, 1, 2, 3, 4, 5, 6, 7, 8))
+        .isEqualTo(aggregate(0, 1, 2, 3, 4, 5, 6, 7, 8));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedGroupsWhenFull() {
+    final AggregatePublicKeyCache smallCache = new AggregatePublicKeyCache(8);
+    final IntList indices = IntList.of(0, 1, 2, 3);
+    final List<BLSPublicKey> keys = keys(0, 1, 2, 3);
+    final BLSPublicKey first =
+        smallCache.getAggregate(UInt64.ONE, IntList.of(0), indices, keys, this::lookup);
+    final BLSPublicKey second =
+        smallCache.getAggregate(UInt64.ONE, IntList.of(1), indices, keys, this::lookup);
+    smallCache.getAggregate(UInt64.ONE, IntList.of(2), indices, keys, this::lookup);
+
+    assertThat(smallCache.getAggregate(UInt64.ONE, IntList.of(1), indices, keys, this::lookup))
+        .isSameAs(second);
+    assertThat(smallCache.getAggregate(UInt64.ONE, IntList.of(0), indices, keys, this::lookup))
+        .isNotSameAs(first);
+  }
+
+  private BLSPublicKey getAggregate(final UInt64 slot, final int... validatorIndices) {
+    return cache.getAggregate(
+        slot,
+        IntList.of(0),
+        new IntArrayList(validatorIndices),
+        keys(validatorIndices),
+        this::lookup);
+  }
+
+  private Optional<BLSPublicKey> lookup(final int validatorIndex) {
+    return Optional.of(registry.get(validatorIndex));
+  }
+
+  private List<BLSPublicKey> keys(final int... validatorIndices) {
+    return IntStream.of(validatorIndices).mapToObj(registry::get).toList();
+  }
+
+  private BLSPublicKey aggregate(final int... validatorIndices) {
+    return BLSPublicKey.aggregate(IntStream.of(validatorIndices).mapToObj(KEYS::get).toList());
+  }
+}
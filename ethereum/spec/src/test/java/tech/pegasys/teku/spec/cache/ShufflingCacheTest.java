@@ -0,0 +1,84 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class ShufflingCacheTest {
+  private static final Bytes32 SEED = Bytes32.fromHexString("0x01");
+
+  private final ShufflingCache cache = new ShufflingCache(2);
+  private final AtomicInteger computations = new AtomicInteger();
+
+  @Test
+  void shouldReuseShufflingForEqualActiveValidators() {
+    final IntList first = cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(3, 1, 2));
+    final IntList second = cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(2, 3, 1));
+
+    assertThat(second).isSameAs(first);
+    assertThat(computations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotReuseShufflingForDifferentSeed() {
+    cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(3, 1, 2));
+    final IntList result =
+        cache.get(Bytes32.fromHexString("0x02"), IntList.of(1, 2, 3), () -> shuffle(2, 3, 1));
+
+    assertThat(result).containsExactly(2, 3, 1);
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void shouldNotReuseShufflingForDifferentActiveValidatorCount() {
+    cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(3, 1, 2));
+    final IntList result = cache.get(SEED, IntList.of(1, 2, 3, 4), () -> shuffle(4, 2, 1, 3));
+
+    assertThat(result).containsExactly(4, 2, 1, 3);
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void shouldNotReuseShufflingForDifferentActiveValidatorsWithSameSeedAndCount() {
+    cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(3, 1, 2));
+    final IntList result = cache.get(SEED, IntList.of(1, 2, 4), () -> shuffle(4, 2, 1));
+
+    assertThat(result).containsExactly(4, 2, 1);
+    assertThat(computations).hasValue(2);
+
+    // The replaced active set is shuffled again rather than served from the other entry
+    final IntList original = cache.get(SEED, IntList.of(1, 2, 3), () -> shuffle(2, 1, 3));
+    assertThat(original).containsExactly(2, 1, 3);
+    assertThat(computations).hasValue(3);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedShufflings() {
+    cache.get(Bytes32.fromHexString("0x01"), IntList.of(1), () -> shuffle(1));
+    cache.get(Bytes32.fromHexString("0x02"), IntList.of(1), () -> shuffle(1));
+    cache.get(Bytes32.fromHexString("0x03"), IntList.of(1), () -> shuffle(1));
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  private IntList shuffle(final int... indices) {
+    computations.incrementAndGet();
+    return IntList.of(indices);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorPublicKeyTableTest {
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  private final ValidatorPublicKeyTable table = new ValidatorPublicKeyTable();
+
+  @Test
+  void shouldReturnSameInstanceForSameKey() {
+    final Bytes48 publicKeyBytes = dataStructureUtil.randomPublicKeyBytes();
+
+    final BLSPublicKey publicKey = table.get(3, publicKeyBytes);
+
+    assertThat(publicKey.toBytesCompressed()).isEqualTo(publicKeyBytes);
+    assertThat(table.get(3, publicKeyBytes)).isSameAs(publicKey);
+  }
+
+  @Test
+  void shouldReplaceEntryWhenKeyAtIndexDiffers() {
+    final Bytes48 publicKeyBytes1 = dataStructureUtil.randomPublicKeyBytes();
+    final Bytes48 publicKeyBytes2 = dataStructureUtil.randomPublicKeyBytes();
+
+    table.get(3, publicKeyBytes1);
+    final BLSPublicKey publicKey2 = table.get(3, publicKeyBytes2);
+
+    assertThat(publicKey2.toBytesCompressed()).isEqualTo(publicKeyBytes2);
+    assertThat(table.get(3, publicKeyBytes2)).isSameAs(publicKey2);
+  }
+
+  @Test
+  void shouldGrowToFitLargeIndices() {
+    final Bytes48 publicKeyBytes = dataStructureUtil.randomPublicKeyBytes();
+
+    table.get(200_000, publicKeyBytes);
+
+    assertThat(table.capacity()).isGreaterThan(200_000);
+    assertThat(table.get(200_000, publicKeyBytes).toBytesCompressed()).isEqualTo(publicKeyBytes);
+  }
+
+  @Test
+  void shouldPrefillAllValidatorKeysFromState() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(16);
+
+    table.prefill(state);
+
+    for (int i = 0; i < 16; i++) {
+      final Bytes48 publicKeyBytes = state.getValidators().get(i).getPubkeyBytes();
+      assertThat(table.get(i, publicKeyBytes).toBytesCompressed()).isEqualTo(publicKeyBytes);
+    }
+  }
+}
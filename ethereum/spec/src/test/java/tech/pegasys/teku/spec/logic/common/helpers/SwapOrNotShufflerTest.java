@@ -0,0 +1,59 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+
+class SwapOrNotShufflerTest {
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private final MiscHelpers miscHelpers = new MiscHelpers(spec.getGenesisSpecConfig());
+  private final int shuffleRoundCount = spec.getGenesisSpecConfig().getShuffleRoundCount();
+  private final Bytes32 seed =
+      Bytes32.fromHexString("0x4a0f3e9c6d7b2a1805f6e3d4c2b1a09f8e7d6c5b4a392817f6e5d4c3b2a19080");
+
+  @ParameterizedTest(name = "listSize={0}")
+  @ValueSource(ints = {0, 1, 2, 255, 256, 257, 3333})
+  void shuffle_shouldMatchComputeShuffledIndex(final int listSize) {
+    final int[] indices = IntStream.range(0, listSize).toArray();
+
+    SwapOrNotShuffler.shuffle(indices, seed, shuffleRoundCount, false);
+
+    assertThat(indices).isEqualTo(shuffledIndices(listSize));
+  }
+
+  @ParameterizedTest(name = "listSize={0}")
+  @ValueSource(ints = {1, 257, 3333, 70_000})
+  void shuffle_shouldMatchSequentialShuffleWhenParallel(final int listSize) {
+    final int[] sequential = IntStream.range(0, listSize).toArray();
+    final int[] parallel = IntStream.range(0, listSize).toArray();
+
+    SwapOrNotShuffler.shuffle(sequential, seed, shuffleRoundCount, false);
+    SwapOrNotShuffler.shuffle(parallel, seed, shuffleRoundCount, true);
+
+    assertThat(parallel).isEqualTo(sequential);
+  }
+
+  private int[] shuffledIndices(final int listSize) {
+    return IntStream.range(0, listSize)
+        .map(i -> miscHelpers.computeShuffledIndex(i, listSize, seed))
+        .toArray();
+  }
+}
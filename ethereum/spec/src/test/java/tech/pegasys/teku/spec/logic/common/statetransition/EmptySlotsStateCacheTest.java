@@ -0,0 +1,105 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.logic.StateTransition;
+
+public class EmptySlotsStateCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final BeaconState genesis = ChainBuilder.create(spec).generateGenesis().getState();
+  private final Bytes32 genesisRoot = genesis.hashTreeRoot();
+
+  private final EmptySlotsStateCache cache = new EmptySlotsStateCache();
+  private final StateTransition stateTransition = new StateTransition(spec::atSlot, cache);
+  private final StateTransition uncachedStateTransition = new StateTransition(spec::atSlot);
+
+  @Test
+  void shouldReturnCachedStateForSameRootAndSlot() throws Exception {
+    final BeaconState advanced = stateTransition.processSlots(genesis, UInt64.valueOf(3));
+
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(3)))
+        .containsSame(advanced);
+    assertThat(stateTransition.processSlots(genesis, UInt64.valueOf(3))).isSameAs(advanced);
+  }
+
+  @Test
+  void shouldContinueFromFurthestAdvancedState() throws Exception {
+    final BeaconState advanced = stateTransition.processSlots(genesis, UInt64.valueOf(5));
+
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(20)))
+        .containsSame(advanced);
+    // an earlier slot can't be reached from a further advanced state
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(4))).isEmpty();
+
+    final BeaconState result = stateTransition.processSlots(genesis, UInt64.valueOf(20));
+    assertThat(result).isEqualTo(uncachedStateTransition.processSlots(genesis, UInt64.valueOf(20)));
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(30))).containsSame(result);
+  }
+
+  @Test
+  void shouldKeepFurthestAdvancedStateWhenAdvancingToEarlierSlot() throws Exception {
+    final BeaconState furthest = stateTransition.processSlots(genesis, UInt64.valueOf(10));
+    stateTransition.processSlots(genesis, UInt64.valueOf(4));
+
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(4))).isEmpty();
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(11)))
+        .containsSame(furthest);
+  }
+
+  @Test
+  void shouldDropStatesAdvancedFromOldPreStates() throws Exception {
+    final BeaconState advanced = stateTransition.processSlots(genesis, UInt64.valueOf(3));
+    final Bytes32 recentPreStateRoot = Bytes32.fromHexStringLenient("0x01");
+    final UInt64 recentPreStateSlot =
+        UInt64.valueOf(EmptySlotsStateCache.MAX_PRE_STATE_SLOT_DISTANCE + 1);
+
+    cache.onStateAdvanced(recentPreStateRoot, recentPreStateSlot, advanced);
+
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(3))).isEmpty();
+    assertThat(cache.getClosestAdvancedState(recentPreStateRoot, UInt64.valueOf(3)))
+        .containsSame(advanced);
+
+    // states advanced from pre states that old are not cached at all
+    cache.onStateAdvanced(genesisRoot, UInt64.ZERO, advanced);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedPreStatesBeyondCapacity() throws Exception {
+    final BeaconState advanced = stateTransition.processSlots(genesis, UInt64.valueOf(3));
+    for (int i = 1; i <= EmptySlotsStateCache.DEFAULT_CAPACITY; i++) {
+      final Bytes32 preStateRoot = Bytes32.fromHexStringLenient(Integer.toHexString(i));
+      cache.onStateAdvanced(preStateRoot, UInt64.ZERO, advanced);
+    }
+
+    assertThat(cache.size()).isEqualTo(EmptySlotsStateCache.DEFAULT_CAPACITY);
+    assertThat(cache.getClosestAdvancedState(genesisRoot, UInt64.valueOf(3))).isEmpty();
+  }
+
+  @Test
+  void shouldNotReturnStatesAdvancedFromDifferentRoot() throws Exception {
+    stateTransition.processSlots(genesis, UInt64.valueOf(3));
+
+    assertThat(cache.getClosestAdvancedState(Bytes32.ZERO, UInt64.valueOf(3))).isEmpty();
+  }
+}
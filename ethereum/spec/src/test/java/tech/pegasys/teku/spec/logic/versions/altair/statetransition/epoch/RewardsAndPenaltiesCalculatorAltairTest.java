@@ -0,0 +1,104 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class RewardsAndPenaltiesCalculatorAltairTest {
+  private static final int VALIDATOR_COUNT = 1000;
+  private static final UInt64 CURRENT_EPOCH = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final SpecVersion genesisSpec = spec.getGenesisSpec();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 8})
+  void getDeltas_shouldMatchSequentialDeltasWhenProcessedInParallel(final long finalizedEpoch) {
+    final BeaconStateAltair state = createState(UInt64.valueOf(finalizedEpoch));
+
+    final RewardAndPenaltyDeltas sequentialDeltas =
+        createCalculator(state, Integer.MAX_VALUE).getDeltas();
+    final RewardAndPenaltyDeltas parallelDeltas = createCalculator(state, 0).getDeltas();
+
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      assertThat(parallelDeltas.getDelta(i).getReward())
+          .isEqualTo(sequentialDeltas.getDelta(i).getReward());
+      assertThat(parallelDeltas.getDelta(i).getPenalty())
+          .isEqualTo(sequentialDeltas.getDelta(i).getPenalty());
+    }
+    assertThat(IntStream.range(0, VALIDATOR_COUNT))
+        .anyMatch(i -> !sequentialDeltas.getDelta(i).isZero());
+  }
+
+  private RewardsAndPenaltiesCalculatorAltair createCalculator(
+      final BeaconStateAltair state, final int minValidatorsForParallelProcessing) {
+    return new RewardsAndPenaltiesCalculatorAltair(
+        SpecConfigAltair.required(genesisSpec.getConfig()),
+        state,
+        genesisSpec.getValidatorStatusFactory().createValidatorStatuses(state),
+        (MiscHelpersAltair) genesisSpec.miscHelpers(),
+        (BeaconStateAccessorsAltair) genesisSpec.beaconStateAccessors(),
+        minValidatorsForParallelProcessing);
+  }
+
+  private BeaconStateAltair createState(final UInt64 finalizedEpoch) {
+    final UInt64 maxEffectiveBalance = genesisSpec.getConfig().getMaxEffectiveBalance();
+    final UInt64 effectiveBalanceIncrement =
+        genesisSpec.getConfig().getEffectiveBalanceIncrement();
+    final Validator[] validators =
+        IntStream.range(0, VALIDATOR_COUNT)
+            .mapToObj(
+                i ->
+                    dataStructureUtil
+                        .validatorBuilder()
+                        .activationEligibilityEpoch(UInt64.ZERO)
+                        .activationEpoch(UInt64.ZERO)
+                        .slashed(i % 17 == 0)
+                        .effectiveBalance(
+                            maxEffectiveBalance.minus(effectiveBalanceIncrement.times(i % 4)))
+                        .build())
+            .toArray(Validator[]::new);
+    final BeaconStateAltair state =
+        dataStructureUtil
+            .stateBuilderAltair(VALIDATOR_COUNT, VALIDATOR_COUNT)
+            .setSlotToStartOfEpoch(CURRENT_EPOCH)
+            .setFinalizedCheckpointToEpoch(finalizedEpoch)
+            .validators(validators)
+            .build();
+    return state.updatedAltair(
+        mutableState -> {
+          final SszMutableUInt64List inactivityScores = mutableState.getInactivityScores();
+          for (int i = 0; i < VALIDATOR_COUNT; i++) {
+            inactivityScores.setElement(i, UInt64.valueOf(i % 32));
+          }
+        });
+  }
+}
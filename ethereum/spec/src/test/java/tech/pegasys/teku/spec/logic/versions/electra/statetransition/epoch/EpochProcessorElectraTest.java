@@ -15,18 +15,115 @@ package tech.pegasys.teku.spec.logic.versions.electra.statetransition.epoch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.electra.MutableBeaconStateElectra;
+import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingDeposit;
+import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
+import tech.pegasys.teku.spec.datastructures.type.SszSignature;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 class EpochProcessorElectraTest {
+  private static final UInt64 DEPOSIT_AMOUNT = UInt64.valueOf(32_000_000_000L);
+  private static final UInt64 TOP_UP_AMOUNT = UInt64.valueOf(1_000_000_000L);
 
   private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaDefinitionsElectra schemaDefinitions =
+      SchemaDefinitionsElectra.required(spec.getGenesisSchemaDefinitions());
   private final EpochProcessorElectra epochProcessor =
       (EpochProcessorElectra) spec.getGenesisSpec().getEpochProcessor();
 
+  private final BLSKeyPair keyPairA = BLSTestUtil.randomKeyPair(1);
+  private final BLSKeyPair keyPairB = BLSTestUtil.randomKeyPair(2);
+
   @Test
   public void shouldCheckNewValidatorsDuringEpochProcessingReturnsTrue() {
     assertThat(epochProcessor.shouldCheckNewValidatorsDuringEpochProcessing()).isTrue();
   }
+
+  @Test
+  public void processPendingDeposits_shouldAddNewValidatorsAndApplyTopUpsInBulk() {
+    final BeaconState preState = dataStructureUtil.randomBeaconState(16);
+    final BeaconState state =
+        processPendingDeposits(
+            preState,
+            List.of(
+                createDeposit(keyPairA, DEPOSIT_AMOUNT, true),
+                createDeposit(keyPairB, DEPOSIT_AMOUNT, true),
+                // top-ups don't require a valid signature
+                createDeposit(keyPairA, TOP_UP_AMOUNT, false)));
+
+    assertThat(state.getValidators().size()).isEqualTo(18);
+    assertThat(state.getValidators().get(16).getPublicKey()).isEqualTo(keyPairA.getPublicKey());
+    assertThat(state.getBalances().getElement(16)).isEqualTo(DEPOSIT_AMOUNT.plus(TOP_UP_AMOUNT));
+    assertThat(state.getValidators().get(17).getPublicKey()).isEqualTo(keyPairB.getPublicKey());
+    assertThat(state.getBalances().getElement(17)).isEqualTo(DEPOSIT_AMOUNT);
+  }
+
+  @Test
+  public void processPendingDeposits_shouldSkipNewValidatorsWithInvalidSignature() {
+    final BeaconState preState = dataStructureUtil.randomBeaconState(16);
+    final BeaconState state =
+        processPendingDeposits(
+            preState,
+            List.of(
+                createDeposit(keyPairA, DEPOSIT_AMOUNT, false),
+                createDeposit(keyPairB, DEPOSIT_AMOUNT, true),
+                // the first deposit for this key was skipped, so this one creates the validator
+                createDeposit(keyPairA, DEPOSIT_AMOUNT, true)));
+
+    assertThat(state.getValidators().size()).isEqualTo(18);
+    assertThat(state.getValidators().get(16).getPublicKey()).isEqualTo(keyPairB.getPublicKey());
+    assertThat(state.getValidators().get(17).getPublicKey()).isEqualTo(keyPairA.getPublicKey());
+    assertThat(state.getBalances().getElement(17)).isEqualTo(DEPOSIT_AMOUNT);
+  }
+
+  private BeaconState processPendingDeposits(
+      final BeaconState preState, final List<PendingDeposit> deposits) {
+    return preState.updated(
+        state -> {
+          final MutableBeaconStateElectra stateElectra = MutableBeaconStateElectra.required(state);
+          stateElectra.setPendingDeposits(
+              schemaDefinitions.getPendingDepositsSchema().createFromElements(deposits));
+          // make sure all deposits fit in the churn
+          stateElectra.setDepositBalanceToConsume(DEPOSIT_AMOUNT.times(deposits.size()));
+          epochProcessor.processPendingDeposits(state);
+          assertThat(stateElectra.getPendingDeposits()).isEmpty();
+        });
+  }
+
+  private PendingDeposit createDeposit(
+      final BLSKeyPair keyPair, final UInt64 amount, final boolean validSignature) {
+    final Bytes32 withdrawalCredentials = dataStructureUtil.randomEth1WithdrawalCredentials();
+    final BLSSignature signature =
+        validSignature
+            ? BLS.sign(
+                keyPair.getSecretKey(),
+                spec.getGenesisSpec()
+                    .miscHelpers()
+                    .computeDepositSigningRoot(
+                        keyPair.getPublicKey(), withdrawalCredentials, amount))
+            : dataStructureUtil.randomSignature();
+    return schemaDefinitions
+        .getPendingDepositSchema()
+        .create(
+            new SszPublicKey(keyPair.getPublicKey()),
+            SszBytes32.of(withdrawalCredentials),
+            SszUInt64.of(amount),
+            new SszSignature(signature),
+            SszUInt64.of(UInt64.ZERO));
+  }
 }
@@ -110,7 +110,10 @@ class AttestationManagerIntegrationTest {
           attestationPool,
           attestationValidator,
           new AggregateAttestationValidator(
-              spec, attestationValidator, signatureVerificationService),
+              spec,
+              attestationValidator,
+              signatureVerificationService,
+              storageSystem.getMetricsSystem()),
           signatureVerificationService,
           activeValidatorChannel);
 
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static tech.pegasys.teku.infrastructure.logging.Converter.gweiToEth;
 import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -26,7 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -37,11 +40,13 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -50,7 +55,9 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.SingleAttestation;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BlockRewardCalculatorUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlockRewardCalculatorUtil.BlockRewardData;
@@ -89,6 +96,12 @@ public class AggregatingAttestationPoolBenchmark {
       Optional.of(
           "block-3816773-456c9819a4c1e792ba8b1f71119628aed2a4d1e0d2c66199fbc763832937421b.ssz");
 
+  // number of slots filled with aggregates when using the synthetic pool
+  private static final int SYNTHETIC_POOL_SLOTS = 32;
+  // aggregates received per committee, matching the target number of aggregators
+  private static final int SYNTHETIC_AGGREGATES_PER_COMMITTEE = 16;
+  private static final double SYNTHETIC_PARTICIPATION_RATE = 0.95;
+
   record AttestationDataRootAndCommitteeIndex(Bytes32 attestationDataRoot, UInt64 committeeIndex) {}
 
   private BeaconState state;
@@ -99,6 +112,11 @@ public class AggregatingAttestationPoolBenchmark {
   private AttestationForkChecker attestationForkChecker;
   private AttestationDataRootAndCommitteeIndex mostFrequentSingleAttestationDataRootAndCI;
 
+  // "dump" loads the pool from POOL_DUMP_PATH, "synthetic" fills the pool with aggregates from
+  // every committee of the last SYNTHETIC_POOL_SLOTS slots, as a full mainnet pool would hold
+  @Param({"dump", "synthetic"})
+  private String poolSource;
+
   @Setup(Level.Trial)
   public void init() throws Exception {
 
@@ -120,6 +138,18 @@ public class AggregatingAttestationPoolBenchmark {
 
     this.attestationForkChecker = new AttestationForkChecker(SPEC, state);
 
+    this.newBlockState = SPEC.processSlots(state, SLOT);
+
+    if ("synthetic".equals(poolSource)) {
+      fillPoolWithSyntheticAggregates();
+    } else {
+      fillPoolFromDump(singleAttCounterByDataAndCommittee);
+    }
+  }
+
+  private void fillPoolFromDump(
+      final Map<AttestationDataRootAndCommitteeIndex, Integer> singleAttCounterByDataAndCommittee)
+      throws IOException {
     final long[] singleAttestationCount = {0};
     final long[] aggregatedAttestationCount = {0};
 
@@ -187,7 +217,67 @@ public class AggregatingAttestationPoolBenchmark {
               .getKey();
     }
 
-    this.newBlockState = SPEC.processSlots(state, SLOT);
+    System.out.println(
+        "init done. Pool size: "
+            + pool.getSize()
+            + " singleAttestationCount: "
+            + singleAttestationCount[0]
+            + " aggregatedAttestationCount: "
+            + aggregatedAttestationCount[0]);
+  }
+
+  private void fillPoolWithSyntheticAggregates() {
+    final Random random = new Random(42);
+    final var attestationSchema =
+        SPEC.getGenesisSpec().getSchemaDefinitions().getAttestationSchema();
+    final UInt64 currentEpoch = SPEC.getCurrentEpoch(newBlockState);
+    for (UInt64 slot = SLOT.minusMinZero(SYNTHETIC_POOL_SLOTS);
+        slot.isLessThan(SLOT);
+        slot = slot.increment()) {
+      final UInt64 epoch = SPEC.computeEpochAtSlot(slot);
+      final Checkpoint source =
+          epoch.equals(currentEpoch)
+              ? newBlockState.getCurrentJustifiedCheckpoint()
+              : newBlockState.getPreviousJustifiedCheckpoint();
+      final Checkpoint target = new Checkpoint(epoch, SPEC.getBlockRoot(newBlockState, epoch));
+      final Bytes32 head = SPEC.getBlockRootAtSlot(newBlockState, slot);
+      final AttestationData data = new AttestationData(slot, UInt64.ZERO, head, source, target);
+      final Int2IntMap committeesSize = SPEC.getBeaconCommitteesSize(state, slot);
+      for (final Int2IntMap.Entry committee : committeesSize.int2IntEntrySet()) {
+        for (int i = 0; i < SYNTHETIC_AGGREGATES_PER_COMMITTEE; i++) {
+          final int[] attesters =
+              IntStream.range(0, committee.getIntValue())
+                  .filter(ignored -> random.nextDouble() < SYNTHETIC_PARTICIPATION_RATE)
+                  .toArray();
+          final Attestation attestation =
+              attestationSchema.create(
+                  attestationSchema.createAggregationBitsOf(committee.getIntValue(), attesters),
+                  data,
+                  BLSSignature.empty(),
+                  () ->
+                      attestationSchema
+                          .getCommitteeBitsSchema()
+                          .orElseThrow()
+                          .ofBits(committee.getIntKey()));
+          final ValidatableAttestation validatableAttestation =
+              ValidatableAttestation.from(SPEC, attestation);
+          validatableAttestation.saveCommitteeShufflingSeedAndCommitteesSize(state);
+          pool.add(validatableAttestation);
+        }
+      }
+    }
+    mostFrequentSingleAttestationDataRootAndCI =
+        pool.getAttestations(Optional.of(SLOT.decrement()), Optional.empty()).stream()
+            .findFirst()
+            .map(
+                attestation ->
+                    new AttestationDataRootAndCommitteeIndex(
+                        attestation.getData().hashTreeRoot(),
+                        attestation.getFirstCommitteeIndex()))
+            .orElseThrow();
+
+    System.out.println("init done. Pool size: " + pool.getSize());
+  }
 
     System.out.println(
         "init done. Pool size: "
@@ -13,9 +13,15 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
@@ -23,36 +29,105 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
-public class EpochCachePrimer {
+/**
+ * Speculatively runs the epoch transition for the current head before the epoch boundary so the
+ * post-epoch state is already in the store's checkpoint state cache when the first block of the
+ * new epoch is imported. If the head changes before the boundary is reached, the transition is
+ * recomputed for the new head.
+ *
+ * <p>The likely successor of the current head, a block for the last slot of the epoch, can only be
+ * processed once it has been imported, at which point it becomes the new head and is recomputed.
+ * The state computed for the previous head stays in the cache, so it is still used if that block
+ * is orphaned.
+ */
+public class EpochCachePrimer implements ChainHeadChannel {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncRunner asyncRunner;
+  private final LabelledMetric<Counter> precomputeCounter;
+
+  private volatile Optional<SlotAndBlockRoot> speculativeEpochStart = Optional.empty();
 
   public EpochCachePrimer(
-      final Spec spec, final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
     this.recentChainData = recentChainData;
     this.asyncRunner = asyncRunner;
+    this.precomputeCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "epoch_precompute_total",
+            "Number of speculative epoch transitions by outcome",
+            "result");
   }
 
   public void primeCacheForEpoch(final UInt64 epoch) {
+    schedulePrimeForEpoch(epoch);
+  }
+
+  /** Returns true if the epoch transition was scheduled for the current head. */
+  private boolean schedulePrimeForEpoch(final UInt64 epoch) {
     final UInt64 firstSlot = spec.computeStartSlotAtEpoch(epoch);
-    recentChainData
-        .getHeadBlock()
-        // Don't preprocess epoch if we're more than an epoch behind as we likely need to sync
-        .filter(
-            headBlock ->
-                isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
-                    && isAfterHeadBlockEpoch(epoch, headBlock))
-        .ifPresent(
-            headBlock ->
-                asyncRunner
-                    .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
-                    .ifExceptionGetsHereRaiseABug());
+    final Optional<MinimalBeaconBlockSummary> maybeHeadBlock =
+        recentChainData
+            .getHeadBlock()
+            // Don't preprocess epoch if we're more than an epoch behind as we likely need to sync
+            .filter(
+                headBlock ->
+                    isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
+                        && isAfterHeadBlockEpoch(epoch, headBlock));
+    if (maybeHeadBlock.isEmpty()) {
+      return false;
+    }
+    final MinimalBeaconBlockSummary headBlock = maybeHeadBlock.get();
+    speculativeEpochStart = Optional.of(new SlotAndBlockRoot(firstSlot, headBlock.getRoot()));
+    asyncRunner
+        .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
+        .ifExceptionGetsHereRaiseABug();
+    return true;
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    final Optional<SlotAndBlockRoot> maybeSpeculative = speculativeEpochStart;
+    if (maybeSpeculative.isEmpty()) {
+      return;
+    }
+    final SlotAndBlockRoot speculative = maybeSpeculative.get();
+    if (slot.isLessThan(speculative.getSlot())) {
+      if (!bestBlockRoot.equals(speculative.getBlockRoot())) {
+        // Head moved before the epoch boundary, the precomputed state won't be used
+        if (schedulePrimeForEpoch(spec.computeEpochAtSlot(speculative.getSlot()))) {
+          precomputeCounter.labels("recomputed").inc();
+        }
+      }
+      return;
+    }
+    speculativeEpochStart = Optional.empty();
+    final boolean isHit =
+        recentChainData
+            .getForkChoiceStrategy()
+            .flatMap(forkChoice -> forkChoice.blockParentRoot(bestBlockRoot))
+            .map(parentRoot -> parentRoot.equals(speculative.getBlockRoot()))
+            .orElse(false);
+    precomputeCounter.labels(isHit ? "hit" : "miss").inc();
   }
 
   private void primeCacheForBlockAtSlot(
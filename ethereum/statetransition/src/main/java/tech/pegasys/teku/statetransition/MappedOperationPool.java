@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -31,6 +32,7 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
@@ -51,10 +53,13 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
   private static final Logger LOG = LogManager.getLogger();
   private static final int DEFAULT_OPERATION_POOL_SIZE = 10_000;
   private final Map<Integer, OperationPoolEntry<T>> operations;
+  // Locally submitted entries, so they can be found without walking the whole pool
+  private final Map<Integer, OperationPoolEntry<T>> localOperations = new ConcurrentHashMap<>();
   private final Function<UInt64, SszListSchema<T, ?>> slotToSszListSchemaSupplier;
   private final OperationValidator<T> operationValidator;
   private final Subscribers<OperationAddedSubscriber<T>> subscribers = Subscribers.create(true);
   private final LabelledMetric<Counter> validationReasonCounter;
+  private final OperationTimer blockSelectionTimer;
 
   private final String metricType;
 
@@ -87,7 +92,7 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
       final int operationPoolSize) {
 
     this.slotToSszListSchemaSupplier = slotToSszListSchemaSupplier;
-    this.operations = LimitedMap.createSynchronizedLRU(operationPoolSize);
+    this.operations = LimitedMap.createSynchronizedIterable(operationPoolSize);
     this.operationValidator = operationValidator;
     this.metricType = metricType;
     metricsSystem.createIntegerGauge(
@@ -101,6 +106,11 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
             OPERATION_POOL_SIZE_VALIDATION_REASON + metricType + "_total",
             "Total number of attempts to add an operation to the pool, broken down by validation result",
             "result");
+    blockSelectionTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.BEACON,
+            OPERATION_POOL_BLOCK_SELECTION_TIME + metricType,
+            "Time taken to select operations from the pool for inclusion in a block");
 
     this.timeProvider = timeProvider;
     asyncRunner.runWithFixedDelay(
@@ -116,8 +126,7 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
   private void updateLocalSubmissions() {
     final UInt64 staleTime = timeProvider.getTimeInSeconds().minus(Duration.ofHours(2).toSeconds());
     final List<OperationPoolEntry<T>> staleLocalOperations =
-        operations.values().stream()
-            .filter(OperationPoolEntry::isLocal)
+        getLocalEntries().stream()
             .filter(entry -> entry.getTimeSubmitted().isLessThanOrEqualTo(staleTime))
             .toList();
     if (!staleLocalOperations.isEmpty()) {
@@ -175,31 +184,83 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
       final BeaconState stateAtBlockSlot,
       final Predicate<T> filter,
       final Consumer<T> includedItemConsumer) {
-    final SszListSchema<T, ?> schema =
-        slotToSszListSchemaSupplier.apply(stateAtBlockSlot.getSlot());
+    final OperationTimer.TimingContext timingContext = blockSelectionTimer.startTimer();
+    try {
+      final SszListSchema<T, ?> schema =
+          slotToSszListSchemaSupplier.apply(stateAtBlockSlot.getSlot());
+      final int maxLength = Math.toIntExact(schema.getMaxLength());
 
-    // Note that iterating through all items does not affect their access time so we are effectively
-    // evicting the oldest entries when the size is exceeded as we only ever access via iteration.
-    final Collection<T> sortedViableOperations =
-        operations.values().stream().sorted().map(OperationPoolEntry::getMessage).toList();
-    final List<T> selected = new ArrayList<>();
-    for (final T item : sortedViableOperations) {
-      if (!filter.test(item)) {
+      // Note that iterating through all items does not affect their access time so we are
+      // effectively evicting the oldest entries when the size is exceeded as we only ever access
+      // via iteration. Locally submitted operations take priority, so rather than sorting the
+      // whole pool we pick from the local entries first and then iterate the pool in place for
+      // remote entries, stopping as soon as the block is full.
+      final List<T> selected = new ArrayList<>();
+      selectItems(
+          stateAtBlockSlot,
+          filter,
+          includedItemConsumer,
+          getLocalEntries(),
+          true,
+          selected,
+          maxLength);
+      selectItems(
+          stateAtBlockSlot,
+          filter,
+          includedItemConsumer,
+          operations.values(),
+          false,
+          selected,
+          maxLength);
+      return schema.createFromElements(selected);
+    } finally {
+      timingContext.stopTimer();
+    }
+  }
+
+  private void selectItems(
+      final BeaconState stateAtBlockSlot,
+      final Predicate<T> filter,
+      final Consumer<T> includedItemConsumer,
+      final Collection<OperationPoolEntry<T>> entries,
+      final boolean isLocal,
+      final List<T> selected,
+      final int maxLength) {
+    for (final OperationPoolEntry<T> entry : entries) {
+      if (selected.size() >= maxLength) {
+        return;
+      }
+      final T item = entry.getMessage();
+      if (entry.isLocal() != isLocal || !filter.test(item)) {
         continue;
       }
-      final int validatorIndex = item.getValidatorId();
       if (operationValidator.validateForBlockInclusion(stateAtBlockSlot, item).isEmpty()) {
         selected.add(item);
         includedItemConsumer.accept(item);
-        if (selected.size() == schema.getMaxLength()) {
-          break;
-        }
       } else {
         // The item is no longer valid to be included in a block so remove it from the pool.
-        operations.remove(validatorIndex);
+        remove(item.getValidatorId());
       }
     }
-    return schema.createFromElements(selected);
+  }
+
+  /** Returns the local entries that have not been evicted from the pool since they were added. */
+  private List<OperationPoolEntry<T>> getLocalEntries() {
+    final List<OperationPoolEntry<T>> localEntries = new ArrayList<>();
+    for (final OperationPoolEntry<T> entry : localOperations.values()) {
+      final int validatorIndex = entry.getMessage().getValidatorId();
+      if (operations.containsKey(validatorIndex)) {
+        localEntries.add(entry);
+      } else {
+        localOperations.remove(validatorIndex, entry);
+      }
+    }
+    return localEntries;
+  }
+
+  private void remove(final int validatorIndex) {
+    operations.remove(validatorIndex);
+    localOperations.remove(validatorIndex);
   }
 
   @Override
@@ -228,9 +289,12 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
     items.forEach(
         item -> {
           final int validatorIndex = item.getValidatorId();
-          operations.putIfAbsent(
-              validatorIndex,
-              new OperationPoolEntry<>(item, false, timeProvider.getTimeInSeconds()));
+          if (operations.putIfAbsent(
+                  validatorIndex,
+                  new OperationPoolEntry<>(item, false, timeProvider.getTimeInSeconds()))
+              == null) {
+            localOperations.remove(validatorIndex);
+          }
         });
   }
 
@@ -239,7 +303,7 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
     items.forEach(
         item -> {
           final int validatorIndex = item.getValidatorId();
-          operations.remove(validatorIndex);
+          remove(validatorIndex);
         });
   }
 
@@ -252,8 +316,7 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
 
   @Override
   public Set<T> getLocallySubmitted() {
-    return operations.values().stream()
-        .filter(OperationPoolEntry::isLocal)
+    return getLocalEntries().stream()
         .map(OperationPoolEntry::getMessage)
         .collect(Collectors.toSet());
   }
@@ -271,9 +334,14 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
             result -> {
               validationReasonCounter.labels(result.code().toString()).inc();
               if (result.code().equals(ValidationResultCode.ACCEPT)) {
-                operations.put(
-                    validatorIndex,
-                    new OperationPoolEntry<>(item, !fromNetwork, timeProvider.getTimeInSeconds()));
+                final OperationPoolEntry<T> entry =
+                    new OperationPoolEntry<>(item, !fromNetwork, timeProvider.getTimeInSeconds());
+                operations.put(validatorIndex, entry);
+                if (entry.isLocal()) {
+                  localOperations.put(validatorIndex, entry);
+                } else {
+                  localOperations.remove(validatorIndex);
+                }
                 subscribers.forEach(s -> s.onOperationAdded(item, result, fromNetwork));
               }
               return result;
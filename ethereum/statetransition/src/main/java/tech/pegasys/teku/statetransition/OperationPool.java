@@ -30,6 +30,7 @@ public interface OperationPool<T extends SszData> {
 
   String OPERATION_POOL_SIZE_METRIC = "operation_pool_size_";
   String OPERATION_POOL_SIZE_VALIDATION_REASON = "operation_pool_validation_";
+  String OPERATION_POOL_BLOCK_SELECTION_TIME = "operation_pool_block_selection_time_";
 
   void subscribeOperationAdded(OperationAddedSubscriber<T> subscriber);
 
@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -48,6 +49,7 @@ public class SimpleOperationPool<T extends SszData> implements OperationPool<T>
   private final Optional<Comparator<T>> priorityOrderComparator;
   private final Subscribers<OperationAddedSubscriber<T>> subscribers = Subscribers.create(true);
   private final LabelledMetric<Counter> validationReasonCounter;
+  private final OperationTimer blockSelectionTimer;
 
   public SimpleOperationPool(
       final String metricType,
@@ -116,6 +118,11 @@ public class SimpleOperationPool<T extends SszData> implements OperationPool<T>
             OPERATION_POOL_SIZE_VALIDATION_REASON + metricType + "_total",
             "Total number of attempts to add an operation to the pool, broken down by validation result",
             "result");
+    blockSelectionTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.BEACON,
+            OPERATION_POOL_BLOCK_SELECTION_TIME + metricType,
+            "Time taken to select operations from the pool for inclusion in a block");
   }
 
   @Override
@@ -133,32 +140,38 @@ public class SimpleOperationPool<T extends SszData> implements OperationPool<T>
       final BeaconState stateAtBlockSlot,
       final Predicate<T> filter,
       final Consumer<T> includedItemConsumer) {
-    final SszListSchema<T, ?> schema =
-        slotToSszListSchemaSupplier.apply(stateAtBlockSlot.getSlot());
-    // Note that iterating through all items does not affect their access time so we are effectively
-    // evicting the oldest entries when the size is exceeded as we only ever access via iteration.
-    final List<T> sortedViableOperations =
-        priorityOrderComparator
-            .map(comparator -> operations.stream().sorted(comparator))
-            .orElseGet(operations::stream)
-            .toList();
-    final List<T> selected = new ArrayList<>();
-    for (final T item : sortedViableOperations) {
-      if (!filter.test(item)) {
-        continue;
-      }
-      if (operationValidator.validateForBlockInclusion(stateAtBlockSlot, item).isEmpty()) {
-        selected.add(item);
-        includedItemConsumer.accept(item);
-        if (selected.size() == schema.getMaxLength()) {
-          break;
+    final OperationTimer.TimingContext timingContext = blockSelectionTimer.startTimer();
+    try {
+      final SszListSchema<T, ?> schema =
+          slotToSszListSchemaSupplier.apply(stateAtBlockSlot.getSlot());
+      // Note that iterating through all items does not affect their access time so we are
+      // effectively evicting the oldest entries when the size is exceeded as we only ever access
+      // via iteration. Without a priority order the pool is iterated in place, so only as many
+      // items as fit in the block are looked at.
+      final Iterable<T> viableOperations =
+          priorityOrderComparator
+              .<Iterable<T>>map(comparator -> operations.stream().sorted(comparator).toList())
+              .orElse(operations);
+      final List<T> selected = new ArrayList<>();
+      for (final T item : viableOperations) {
+        if (!filter.test(item)) {
+          continue;
+        }
+        if (operationValidator.validateForBlockInclusion(stateAtBlockSlot, item).isEmpty()) {
+          selected.add(item);
+          includedItemConsumer.accept(item);
+          if (selected.size() == schema.getMaxLength()) {
+            break;
+          }
+        } else {
+          // The item is no longer valid to be included in a block so remove it from the pool.
+          operations.remove(item);
         }
-      } else {
-        // The item is no longer valid to be included in a block so remove it from the pool.
-        operations.remove(item);
       }
+      return schema.createFromElements(selected);
+    } finally {
+      timingContext.stopTimer();
     }
-    return schema.createFromElements(selected);
   }
 
   @Override
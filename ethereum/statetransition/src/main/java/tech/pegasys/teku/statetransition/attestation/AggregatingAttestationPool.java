@@ -16,23 +16,26 @@ package tech.pegasys.teku.statetransition.attestation;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -53,6 +56,11 @@ import tech.pegasys.teku.storage.client.RecentChainData;
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>Attestations are sharded by attestation data into {@link MatchingDataAttestationGroup}s, each
+ * of which synchronizes its own updates. Adding attestations and reading from the pool only take
+ * the pool's read lock, so gossip threads can add attestations concurrently while blocks are being
+ * produced. The write lock is only needed to remove groups from the pool.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
   private static final Logger LOG = LogManager.getLogger();
@@ -76,14 +84,21 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
    */
   public static final int DEFAULT_MAXIMUM_ATTESTATION_COUNT = 187_500;
 
+  private static final String READ_LOCK = "read";
+  private static final String WRITE_LOCK = "write";
+
   private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+      new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final SettableGauge sizeGauge;
+  private final LabelledMetric<Counter> lockContentionCounter;
+  private final Counter avoidedSignatureAdditionsCounter;
   private final int maximumAttestationCount;
+  private final AttestationPacker attestationPacker;
 
   private final AtomicInteger size = new AtomicInteger(0);
 
@@ -100,28 +115,61 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             TekuMetricCategory.BEACON,
             "attestation_pool_size",
             "The number of attestations available to be included in proposed blocks");
+    this.lockContentionCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "attestation_pool_lock_contention_total",
+            "Total number of times a thread had to wait for the attestation pool lock",
+            "lock");
+    this.avoidedSignatureAdditionsCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "attestation_pool_avoided_signature_additions_total",
+            "Total number of signature additions avoided by reusing attestation aggregates");
     this.maximumAttestationCount = maximumAttestationCount;
+    this.attestationPacker = new AttestationPacker(spec);
   }
 
-  public synchronized void add(final ValidatableAttestation attestation) {
+  public void add(final ValidatableAttestation attestation) {
     final Optional<Int2IntMap> committeesSize =
         attestation.getCommitteesSize().or(() -> getCommitteesSize(attestation.getAttestation()));
-    getOrCreateAttestationGroup(attestation.getAttestation(), committeesSize)
-        .ifPresent(
-            attestationGroup -> {
-              final boolean added = attestationGroup.add(attestation);
-              if (added) {
-                updateSize(1);
-              }
-            });
-    // Always keep the latest slot attestations, so we don't discard everything
-    int currentSize = getSize();
-    while (dataHashBySlot.size() > 1 && currentSize > maximumAttestationCount) {
-      LOG.trace("Attestation cache at {} exceeds {}, ", currentSize, maximumAttestationCount);
-      final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
-      removeAttestationsPriorToSlot(firstSlotToKeep);
-      currentSize = getSize();
+    final Lock readLock = acquire(lock.readLock(), READ_LOCK);
+    try {
+      getOrCreateAttestationGroup(attestation.getAttestation(), committeesSize)
+          .ifPresent(
+              attestationGroup -> {
+                final boolean added = attestationGroup.add(attestation);
+                if (added) {
+                  updateSize(1);
+                }
+              });
+    } finally {
+      readLock.unlock();
+    }
+    if (getSize() <= maximumAttestationCount) {
+      return;
+    }
+    final Lock writeLock = acquire(lock.writeLock(), WRITE_LOCK);
+    try {
+      // Always keep the latest slot attestations, so we don't discard everything
+      int currentSize = getSize();
+      while (dataHashBySlot.size() > 1 && currentSize > maximumAttestationCount) {
+        LOG.trace("Attestation cache at {} exceeds {}, ", currentSize, maximumAttestationCount);
+        final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
+        removeAttestationsPriorToSlot(firstSlotToKeep);
+        currentSize = getSize();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private Lock acquire(final Lock lock, final String lockType) {
+    if (!lock.tryLock()) {
+      lockContentionCounter.labels(lockType).inc();
+      lock.lock();
     }
+    return lock;
   }
 
   private Optional<Int2IntMap> getCommitteesSize(final Attestation attestation) {
@@ -149,12 +197,14 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
       return Optional.empty();
     }
     dataHashBySlot
-        .computeIfAbsent(attestationData.getSlot(), slot -> new HashSet<>())
+        .computeIfAbsent(attestationData.getSlot(), slot -> ConcurrentHashMap.newKeySet())
         .add(attestationData.hashTreeRoot());
     final MatchingDataAttestationGroup attestationGroup =
         attestationGroupByDataHash.computeIfAbsent(
             attestationData.hashTreeRoot(),
-            key -> new MatchingDataAttestationGroup(spec, attestationData, committeesSize));
+            key ->
+                new MatchingDataAttestationGroup(
+                    spec, attestationData, committeesSize, avoidedSignatureAdditionsCounter));
     return Optional.of(attestationGroup);
   }
 
@@ -211,12 +261,17 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     if (slot.compareTo(ATTESTATION_RETENTION_SLOTS) <= 0) {
       return;
     }
     final UInt64 firstValidAttestationSlot = slot.minus(ATTESTATION_RETENTION_SLOTS);
-    removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    final Lock writeLock = acquire(lock.writeLock(), WRITE_LOCK);
+    try {
+      removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    } finally {
+      writeLock.unlock();
+    }
   }
 
   private void removeAttestationsPriorToSlot(final UInt64 firstValidAttestationSlot) {
@@ -239,9 +294,14 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     dataHashesToRemove.clear();
   }
 
-  public synchronized void onAttestationsIncludedInBlock(
+  public void onAttestationsIncludedInBlock(
       final UInt64 slot, final Iterable<Attestation> attestations) {
-    attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    final Lock readLock = acquire(lock.readLock(), READ_LOCK);
+    try {
+      attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    } finally {
+      readLock.unlock();
+    }
   }
 
   private void onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
@@ -259,13 +319,12 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  public synchronized int getSize() {
+  public int getSize() {
     return size.get();
   }
 
-  public synchronized SszList<Attestation> getAttestationsForBlock(
+  public SszList<Attestation> getAttestationsForBlock(
       final BeaconState stateAtBlockSlot, final AttestationForkChecker forkChecker) {
-    final UInt64 currentEpoch = spec.getCurrentEpoch(stateAtBlockSlot);
     final int previousEpochLimit = spec.getPreviousEpochAttestationCapacity(stateAtBlockSlot);
 
     final SchemaDefinitions schemaDefinitions =
@@ -277,43 +336,59 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     final boolean blockRequiresAttestationsWithCommitteeBits =
         schemaDefinitions.getAttestationSchema().requiresCommitteeBits();
 
-    final AtomicInteger prevEpochCount = new AtomicInteger(0);
-
-    return dataHashBySlot
-        // We can immediately skip any attestations from the block slot or later
-        .headMap(stateAtBlockSlot.getSlot(), false)
-        .descendingMap()
-        .values()
+    // We can immediately skip any attestations from the block slot or later
+    final List<List<MatchingDataAttestationGroup>> groupsBySlot =
+        getGroupsBySlotDescending(dataHashBySlot.headMap(stateAtBlockSlot.getSlot(), false));
+
+    // Aggregates are produced lazily, as the packer asks for them within its time budget
+    final Stream<Attestation> candidates =
+        groupsBySlot.stream()
+            .flatMap(
+                groupsForSlot ->
+                    streamAggregatesForSlot(
+                        groupsForSlot,
+                        stateAtBlockSlot,
+                        forkChecker,
+                        blockRequiresAttestationsWithCommitteeBits));
+
+    return attestationPacker
+        .pack(
+            stateAtBlockSlot,
+            candidates,
+            Math.toIntExact(attestationsSchema.getMaxLength()),
+            previousEpochLimit)
         .stream()
-        .flatMap(
-            dataHashSetForSlot ->
-                streamAggregatesForDataHashesBySlot(
-                    dataHashSetForSlot,
-                    stateAtBlockSlot,
-                    forkChecker,
-                    blockRequiresAttestationsWithCommitteeBits))
-        .limit(attestationsSchema.getMaxLength())
-        .filter(
-            attestation -> {
-              if (spec.computeEpochAtSlot(attestation.getData().getSlot())
-                  .isLessThan(currentEpoch)) {
-                final int currentCount = prevEpochCount.getAndIncrement();
-                return currentCount < previousEpochLimit;
-              }
-              return true;
-            })
         .collect(attestationsSchema.collector());
   }
 
-  private Stream<Attestation> streamAggregatesForDataHashesBySlot(
-      final Set<Bytes> dataHashSetForSlot,
+  /**
+   * Takes a snapshot of the groups in the given slots under the read lock, so that the more
+   * expensive work of aggregating them can happen without holding any lock.
+   */
+  private List<List<MatchingDataAttestationGroup>> getGroupsBySlotDescending(
+      final NavigableMap<UInt64, Set<Bytes>> dataHashesBySlot) {
+    final Lock readLock = acquire(lock.readLock(), READ_LOCK);
+    try {
+      return dataHashesBySlot.descendingMap().values().stream()
+          .map(
+              dataHashSetForSlot ->
+                  dataHashSetForSlot.stream()
+                      .map(attestationGroupByDataHash::get)
+                      .filter(Objects::nonNull)
+                      .toList())
+          .toList();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private Stream<Attestation> streamAggregatesForSlot(
+      final List<MatchingDataAttestationGroup> groupsForSlot,
       final BeaconState stateAtBlockSlot,
       final AttestationForkChecker forkChecker,
       final boolean blockRequiresAttestationsWithCommitteeBits) {
 
-    return dataHashSetForSlot.stream()
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
+    return groupsForSlot.stream()
         .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
         .filter(forkChecker::areAttestationsFromCorrectFork)
         .flatMap(MatchingDataAttestationGroup::stream)
@@ -324,24 +399,23 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
         .sorted(ATTESTATION_INCLUSION_COMPARATOR);
   }
 
-  public synchronized List<Attestation> getAttestations(
+  public List<Attestation> getAttestations(
       final Optional<UInt64> maybeSlot, final Optional<UInt64> maybeCommitteeIndex) {
 
-    final Predicate<Map.Entry<UInt64, Set<Bytes>>> filterForSlot =
-        (entry) -> maybeSlot.map(slot -> entry.getKey().equals(slot)).orElse(true);
-
     final UInt64 slot = maybeSlot.orElse(recentChainData.getCurrentSlot().orElse(UInt64.ZERO));
     final SchemaDefinitions schemaDefinitions = spec.atSlot(slot).getSchemaDefinitions();
 
     final boolean requiresCommitteeBits =
         schemaDefinitions.getAttestationSchema().requiresCommitteeBits();
 
-    return dataHashBySlot.descendingMap().entrySet().stream()
-        .filter(filterForSlot)
-        .map(Map.Entry::getValue)
+    final NavigableMap<UInt64, Set<Bytes>> dataHashesBySlot =
+        maybeSlot
+            .<NavigableMap<UInt64, Set<Bytes>>>map(
+                requestedSlot -> dataHashBySlot.subMap(requestedSlot, true, requestedSlot, true))
+            .orElse(dataHashBySlot);
+
+    return getGroupsBySlotDescending(dataHashesBySlot).stream()
         .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
         .flatMap(
             matchingDataAttestationGroup ->
                 matchingDataAttestationGroup.stream(maybeCommitteeIndex, requiresCommitteeBits))
@@ -354,13 +428,18 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return spec.validateAttestation(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidatableAttestation> createAggregateFor(
+  public Optional<ValidatableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot, final Optional<UInt64> committeeIndex) {
     return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
         .flatMap(attestations -> attestations.stream(committeeIndex).findFirst());
   }
 
-  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
-    attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+  public void onReorg(final UInt64 commonAncestorSlot) {
+    final Lock readLock = acquire(lock.readLock(), READ_LOCK);
+    try {
+      attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+    } finally {
+      readLock.unlock();
+    }
   }
 }
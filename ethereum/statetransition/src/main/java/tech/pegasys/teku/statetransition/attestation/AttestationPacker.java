@@ -0,0 +1,377 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import it.unimi.dsi.fastutil.ints.Int2ByteMap;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
+
+/**
+ * Selects the attestations to include in a block so that the proposer claims as much
+ * participation flag reward as possible.
+ *
+ * <p>Each candidate is scored by the effective balance weighted sum of the participation flags it
+ * would newly set, taking into account both the flags already recorded in the state and the flags
+ * set by attestations picked earlier for the same block. Picking the best set is a max-coverage
+ * problem, which is solved greedily: marginal gains only ever decrease as more attestations are
+ * picked, so candidates are kept in a priority queue and only re-scored when they reach the head
+ * of the queue.
+ *
+ * <p>Candidates are pulled from the supplied stream as they are scored, so producing them counts
+ * towards the time budget as well. Scoring stops once three quarters of the time budget is used,
+ * so that the rest of the budget is left for picking among the candidates scored so far. Once no
+ * candidate adds any reward, or the time budget is used up, the remaining space is filled with the
+ * rest of the candidates in their original order, pulling only as many further candidates as fit.
+ * The selected attestations are returned in the order they were supplied.
+ */
+class AttestationPacker {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(100);
+
+  private static final int FLAG_COMBINATIONS =
+      1 << MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS.size();
+
+  /** Total weight of every combination of participation flags, indexed by the flags bitmask. */
+  private static final long[] FLAG_WEIGHTS = new long[FLAG_COMBINATIONS];
+
+  static {
+    for (int flags = 0; flags < FLAG_COMBINATIONS; flags++) {
+      for (int i = 0; i < MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS.size(); i++) {
+        if ((flags & (1 << i)) != 0) {
+          FLAG_WEIGHTS[flags] += MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS.get(i).longValue();
+        }
+      }
+    }
+  }
+
+  private final Spec spec;
+  private final long timeBudgetNanos;
+  private final LongSupplier nanoTimeSupplier;
+
+  AttestationPacker(final Spec spec) {
+    this(spec, DEFAULT_TIME_BUDGET, System::nanoTime);
+  }
+
+  AttestationPacker(
+      final Spec spec, final Duration timeBudget, final LongSupplier nanoTimeSupplier) {
+    this.spec = spec;
+    this.timeBudgetNanos = timeBudget.toNanos();
+    this.nanoTimeSupplier = nanoTimeSupplier;
+  }
+
+  /**
+   * @param stateAtBlockSlot the state the block will be applied to
+   * @param candidates the attestations available for inclusion, in order of preference. The
+   *     stream is consumed lazily and only as far as needed.
+   * @param maxAttestations the maximum number of attestations to select
+   * @param previousEpochLimit the maximum number of previous epoch attestations to select
+   * @return the selected attestations, in the same relative order as {@code candidates}
+   */
+  List<Attestation> pack(
+      final BeaconState stateAtBlockSlot,
+      final Stream<Attestation> candidates,
+      final int maxAttestations,
+      final int previousEpochLimit) {
+    final long start = nanoTimeSupplier.getAsLong();
+    final long scoringDeadline = start + timeBudgetNanos - timeBudgetNanos / 4;
+    final long deadline = start + timeBudgetNanos;
+    final UInt64 currentEpoch = spec.computeEpochAtSlot(stateAtBlockSlot.getSlot());
+    final Iterator<Attestation> remainingCandidates = candidates.iterator();
+    final List<Attestation> pulledCandidates = new ArrayList<>();
+    final BitSet selected = new BitSet();
+    final Selection selection = new Selection(currentEpoch, maxAttestations, previousEpochLimit);
+
+    stateAtBlockSlot
+        .toVersionAltair()
+        .ifPresent(
+            state ->
+                selectByReward(
+                    state,
+                    remainingCandidates,
+                    pulledCandidates,
+                    scoringDeadline,
+                    deadline,
+                    currentEpoch,
+                    selected,
+                    selection));
+
+    int position = 0;
+    while (!selection.isFull()) {
+      if (position == pulledCandidates.size()) {
+        if (!remainingCandidates.hasNext()) {
+          break;
+        }
+        pulledCandidates.add(remainingCandidates.next());
+      }
+      if (!selected.get(position) && selection.tryAdd(pulledCandidates.get(position))) {
+        selected.set(position);
+      }
+      position++;
+    }
+
+    return selected.stream().mapToObj(pulledCandidates::get).toList();
+  }
+
+  private void selectByReward(
+      final BeaconStateAltair state,
+      final Iterator<Attestation> remainingCandidates,
+      final List<Attestation> pulledCandidates,
+      final long scoringDeadline,
+      final long deadline,
+      final UInt64 currentEpoch,
+      final BitSet selected,
+      final Selection selection) {
+    final SpecVersion specVersion = spec.atSlot(state.getSlot());
+    final RewardTracker rewardTracker = new RewardTracker(specVersion, state, currentEpoch);
+
+    final PriorityQueue<Candidate> queue =
+        new PriorityQueue<>(
+            Comparator.<Candidate>comparingLong(candidate -> candidate.reward)
+                .reversed()
+                .thenComparingInt(candidate -> candidate.position));
+    while (remainingCandidates.hasNext()) {
+      if (nanoTimeSupplier.getAsLong() > scoringDeadline) {
+        LOG.debug(
+            "Attestation scoring time budget exceeded after scoring {} candidates",
+            pulledCandidates.size());
+        break;
+      }
+      final Attestation attestation = remainingCandidates.next();
+      pulledCandidates.add(attestation);
+      rewardTracker
+          .createCandidate(pulledCandidates.size() - 1, attestation)
+          .filter(candidate -> candidate.reward > 0)
+          .ifPresent(queue::add);
+    }
+
+    while (!queue.isEmpty() && !selection.isFull()) {
+      if (nanoTimeSupplier.getAsLong() > deadline) {
+        LOG.debug(
+            "Attestation packing time budget exceeded with {} candidates left", queue.size());
+        return;
+      }
+      final Candidate candidate = queue.poll();
+      if (!selection.canAdd(candidate.attestation)) {
+        continue;
+      }
+      final long reward = rewardTracker.calculateReward(candidate);
+      if (reward == 0) {
+        continue;
+      }
+      if (reward < candidate.reward) {
+        candidate.reward = reward;
+        queue.add(candidate);
+        continue;
+      }
+      selection.tryAdd(candidate.attestation);
+      selected.set(candidate.position);
+      rewardTracker.markIncluded(candidate);
+    }
+  }
+
+  private class Selection {
+    private final UInt64 currentEpoch;
+    private final int maxAttestations;
+    private final int previousEpochLimit;
+    private int count;
+    private int previousEpochCount;
+
+    private Selection(
+        final UInt64 currentEpoch, final int maxAttestations, final int previousEpochLimit) {
+      this.currentEpoch = currentEpoch;
+      this.maxAttestations = maxAttestations;
+      this.previousEpochLimit = previousEpochLimit;
+    }
+
+    boolean isFull() {
+      return count >= maxAttestations;
+    }
+
+    boolean canAdd(final Attestation attestation) {
+      return !isFull()
+          && (!isFromPreviousEpoch(attestation) || previousEpochCount < previousEpochLimit);
+    }
+
+    boolean tryAdd(final Attestation attestation) {
+      if (!canAdd(attestation)) {
+        return false;
+      }
+      if (isFromPreviousEpoch(attestation)) {
+        previousEpochCount++;
+      }
+      count++;
+      return true;
+    }
+
+    private boolean isFromPreviousEpoch(final Attestation attestation) {
+      return spec.computeEpochAtSlot(attestation.getData().getSlot()).isLessThan(currentEpoch);
+    }
+  }
+
+  /**
+   * Tracks the participation flags set for each validator, starting from the state and updated as
+   * attestations are picked, along with each validator's effective balance in increments.
+   */
+  private static class RewardTracker {
+    private final SpecVersion specVersion;
+    private final BeaconStateAccessorsAltair beaconStateAccessors;
+    private final BeaconStateAltair state;
+    private final UInt64 currentEpoch;
+    private final UInt64 effectiveBalanceIncrement;
+    private final Int2ByteMap currentEpochFlags = new Int2ByteOpenHashMap();
+    private final Int2ByteMap previousEpochFlags = new Int2ByteOpenHashMap();
+    private final Int2LongMap effectiveBalanceIncrements = new Int2LongOpenHashMap();
+
+    private RewardTracker(
+        final SpecVersion specVersion, final BeaconStateAltair state, final UInt64 currentEpoch) {
+      this.specVersion = specVersion;
+      this.beaconStateAccessors =
+          BeaconStateAccessorsAltair.required(specVersion.beaconStateAccessors());
+      this.state = state;
+      this.currentEpoch = currentEpoch;
+      this.effectiveBalanceIncrement = specVersion.getConfig().getEffectiveBalanceIncrement();
+      currentEpochFlags.defaultReturnValue((byte) -1);
+      previousEpochFlags.defaultReturnValue((byte) -1);
+      effectiveBalanceIncrements.defaultReturnValue(-1);
+    }
+
+    private Optional<Candidate> createCandidate(final int position, final Attestation attestation) {
+      try {
+        final UInt64 inclusionDelay = state.getSlot().minusMinZero(attestation.getData().getSlot());
+        int flags = 0;
+        for (final int flagIndex :
+            beaconStateAccessors.getAttestationParticipationFlagIndices(
+                state, attestation.getData(), inclusionDelay)) {
+          flags |= 1 << flagIndex;
+        }
+        if (flags == 0) {
+          return Optional.empty();
+        }
+        final IntList attestingIndices =
+            specVersion.getAttestationUtil().getAttestingIndices(state, attestation);
+        final boolean currentEpochTarget =
+            attestation.getData().getTarget().getEpoch().equals(currentEpoch);
+        final Candidate candidate =
+            new Candidate(
+                position, attestation, attestingIndices.toIntArray(), flags, currentEpochTarget);
+        candidate.reward = calculateReward(candidate);
+        return Optional.of(candidate);
+      } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        LOG.debug("Unable to calculate reward for attestation {}", attestation, e);
+        return Optional.empty();
+      }
+    }
+
+    private long calculateReward(final Candidate candidate) {
+      long reward = 0;
+      for (final int validatorIndex : candidate.validatorIndices) {
+        final int newFlags = candidate.flags & ~getFlags(candidate, validatorIndex);
+        if (newFlags != 0) {
+          reward += getEffectiveBalanceIncrements(validatorIndex) * FLAG_WEIGHTS[newFlags];
+        }
+      }
+      return reward;
+    }
+
+    private void markIncluded(final Candidate candidate) {
+      final Int2ByteMap flagsByValidator = getFlagsByValidator(candidate);
+      for (final int validatorIndex : candidate.validatorIndices) {
+        flagsByValidator.put(
+            validatorIndex, (byte) (getFlags(candidate, validatorIndex) | candidate.flags));
+      }
+    }
+
+    private int getFlags(final Candidate candidate, final int validatorIndex) {
+      final Int2ByteMap flagsByValidator = getFlagsByValidator(candidate);
+      final byte flags = flagsByValidator.get(validatorIndex);
+      if (flags != -1) {
+        return flags;
+      }
+      final SszList<SszByte> participation =
+          candidate.currentEpochTarget
+              ? state.getCurrentEpochParticipation()
+              : state.getPreviousEpochParticipation();
+      final byte stateFlags = participation.get(validatorIndex).get();
+      flagsByValidator.put(validatorIndex, stateFlags);
+      return stateFlags;
+    }
+
+    private Int2ByteMap getFlagsByValidator(final Candidate candidate) {
+      return candidate.currentEpochTarget ? currentEpochFlags : previousEpochFlags;
+    }
+
+    private long getEffectiveBalanceIncrements(final int validatorIndex) {
+      final long increments = effectiveBalanceIncrements.get(validatorIndex);
+      if (increments != -1) {
+        return increments;
+      }
+      final long stateIncrements =
+          state
+              .getValidators()
+              .get(validatorIndex)
+              .getEffectiveBalance()
+              .dividedBy(effectiveBalanceIncrement)
+              .longValue();
+      effectiveBalanceIncrements.put(validatorIndex, stateIncrements);
+      return stateIncrements;
+    }
+  }
+
+  private static class Candidate {
+    private final int position;
+    private final Attestation attestation;
+    private final int[] validatorIndices;
+    private final int flags;
+    private final boolean currentEpochTarget;
+    private long reward;
+
+    private Candidate(
+        final int position,
+        final Attestation attestation,
+        final int[] validatorIndices,
+        final int flags,
+        final boolean currentEpochTarget) {
+      this.position = position;
+      this.attestation = attestation;
+      this.validatorIndices = validatorIndices;
+      this.flags = flags;
+      this.currentEpochTarget = currentEpochTarget;
+    }
+  }
+}
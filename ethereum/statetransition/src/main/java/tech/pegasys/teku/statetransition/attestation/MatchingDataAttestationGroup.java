@@ -14,10 +14,15 @@
 package tech.pegasys.teku.statetransition.attestation;
 
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +32,8 @@ import java.util.TreeMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -46,9 +53,21 @@ import tech.pegasys.teku.statetransition.attestation.utils.AttestationBitsAggreg
  *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
+ *
+ * <p>The aggregates produced by iteration are kept and reused by later iterations with the same
+ * committee index. Attestations added afterwards are merged into them one signature at a time
+ * where possible, so repeated reads of a busy group don't keep aggregating the same signatures.
+ *
+ * <p>This class is thread safe. Updates synchronize on the group, and aggregates are built from a
+ * snapshot taken before aggregation starts, so aggregating doesn't block concurrent updates.
  */
 public class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
 
+  private static final Comparator<ValidatableAttestation> LARGEST_AGGREGATE_FIRST =
+      Comparator.<ValidatableAttestation>comparingInt(
+              attestation -> attestation.getAttestation().getAggregationBits().getBitCount())
+          .reversed();
+
   private final NavigableMap<Integer, Set<ValidatableAttestation>> attestationsByValidatorCount =
       new TreeMap<>(Comparator.reverseOrder()); // Most validators first
 
@@ -75,13 +94,28 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
   /** Precalculated combined list of included validators across all blocks. */
   private AttestationBitsAggregator includedValidators;
 
+  /** Aggregates produced by previous iterations, by the committee index they were filtered by. */
+  private final Map<Optional<UInt64>, CachedAggregates> cachedAggregatesByCommitteeIndex =
+      new HashMap<>();
+
+  /**
+   * Incremented whenever the group changes, so aggregates built from an outdated snapshot aren't
+   * cached.
+   */
+  private long version;
+
+  /** Counts BLS signature additions avoided by reusing previously built aggregates. */
+  private final Counter avoidedSignatureAdditionsCounter;
+
   public MatchingDataAttestationGroup(
       final Spec spec,
       final AttestationData attestationData,
-      final Optional<Int2IntMap> committeesSize) {
+      final Optional<Int2IntMap> committeesSize,
+      final Counter avoidedSignatureAdditionsCounter) {
     this.spec = spec;
     this.attestationData = attestationData;
     this.committeesSize = committeesSize;
+    this.avoidedSignatureAdditionsCounter = avoidedSignatureAdditionsCounter;
     this.includedValidators = createEmptyAttestationBits();
   }
 
@@ -102,7 +136,7 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
    * @param attestation the attestation to add
    * @return True if the attestation was added, false otherwise
    */
-  public boolean add(final ValidatableAttestation attestation) {
+  public synchronized boolean add(final ValidatableAttestation attestation) {
     if (includedValidators.isSuperSetOf(attestation.getAttestation())) {
       // All attestation bits have already been included on chain
       return false;
@@ -110,11 +144,66 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
     if (committeeShufflingSeed.isEmpty()) {
       committeeShufflingSeed = attestation.getCommitteeShufflingSeed();
     }
-    return attestationsByValidatorCount
-        .computeIfAbsent(
-            attestation.getAttestation().getAggregationBits().getBitCount(),
-            count -> new HashSet<>())
-        .add(attestation);
+    final boolean added =
+        attestationsByValidatorCount
+            .computeIfAbsent(
+                attestation.getAttestation().getAggregationBits().getBitCount(),
+                count -> new HashSet<>())
+            .add(attestation);
+    if (added) {
+      version++;
+      cachedAggregatesByCommitteeIndex
+          .entrySet()
+          .removeIf(
+              entry -> !mergeIntoCachedAggregates(entry.getKey(), entry.getValue(), attestation));
+    }
+    return added;
+  }
+
+  /**
+   * Merges a newly added attestation into the cached aggregates for a committee index.
+   *
+   * @return false if the attestation couldn't be merged and the cached aggregates must be rebuilt
+   */
+  private boolean mergeIntoCachedAggregates(
+      final Optional<UInt64> committeeIndex,
+      final CachedAggregates cachedAggregates,
+      final ValidatableAttestation attestation) {
+    if (!isAttestationRelevant(attestation, committeeIndex)
+        || cachedAggregates.coveredValidators.isSuperSetOf(attestation.getAttestation())) {
+      return true;
+    }
+    final List<ValidatableAttestation> aggregates = cachedAggregates.aggregates;
+    for (int i = 0; i < aggregates.size(); i++) {
+      final Attestation aggregate = aggregates.get(i).getAttestation();
+      final AttestationBitsAggregator aggregateBits =
+          AttestationBitsAggregator.of(aggregate, committeesSize);
+      if (aggregateBits.aggregateWith(attestation.getAttestation())) {
+        final List<ValidatableAttestation> updatedAggregates = new ArrayList<>(aggregates);
+        updatedAggregates.set(
+            i,
+            ValidatableAttestation.from(
+                spec,
+                spec.atSlot(attestationData.getSlot())
+                    .getSchemaDefinitions()
+                    .getAttestationSchema()
+                    .create(
+                        aggregateBits.getAggregationBits(),
+                        attestationData,
+                        BLS.aggregate(
+                            List.of(
+                                aggregate.getAggregateSignature(),
+                                attestation.getAttestation().getAggregateSignature())),
+                        aggregateBits::getCommitteeBits)));
+        // The merged aggregate may now be larger than those before it, keep the largest first
+        updatedAggregates.sort(LARGEST_AGGREGATE_FIRST);
+        cachedAggregates.aggregates = Collections.unmodifiableList(updatedAggregates);
+        cachedAggregates.coveredValidators.or(attestation.getAttestation());
+        cachedAggregates.signatureAdditions++;
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -132,11 +221,40 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
    */
   @Override
   public Iterator<ValidatableAttestation> iterator() {
-    return new AggregatingIterator(Optional.empty());
+    return iterator(Optional.empty());
   }
 
   public Iterator<ValidatableAttestation> iterator(final Optional<UInt64> committeeIndex) {
-    return new AggregatingIterator(committeeIndex);
+    return getAggregates(committeeIndex).iterator();
+  }
+
+  private List<ValidatableAttestation> getAggregates(final Optional<UInt64> committeeIndex) {
+    final long snapshotVersion;
+    synchronized (this) {
+      final CachedAggregates cachedAggregates =
+          cachedAggregatesByCommitteeIndex.get(committeeIndex);
+      if (cachedAggregates != null) {
+        avoidedSignatureAdditionsCounter.inc(cachedAggregates.signatureAdditions);
+        return cachedAggregates.aggregates;
+      }
+      snapshotVersion = version;
+    }
+
+    final AggregatingIterator aggregatingIterator = new AggregatingIterator(committeeIndex);
+    final List<ValidatableAttestation> aggregates = new ArrayList<>();
+    aggregatingIterator.forEachRemaining(aggregates::add);
+    final CachedAggregates cachedAggregates =
+        new CachedAggregates(
+            Collections.unmodifiableList(aggregates),
+            aggregatingIterator.includedValidators,
+            aggregatingIterator.signatureAdditions);
+
+    synchronized (this) {
+      if (version == snapshotVersion) {
+        cachedAggregatesByCommitteeIndex.put(committeeIndex, cachedAggregates);
+      }
+    }
+    return cachedAggregates.aggregates;
   }
 
   public Stream<ValidatableAttestation> stream() {
@@ -164,11 +282,11 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
    *
    * @return true if this group is empty.
    */
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return attestationsByValidatorCount.isEmpty();
   }
 
-  public int size() {
+  public synchronized int size() {
     return attestationsByValidatorCount.values().stream().map(Set::size).reduce(0, Integer::sum);
   }
 
@@ -180,7 +298,8 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
    *
    * @param attestation the attestation to logically remove from the pool.
    */
-  public int onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
+  public synchronized int onAttestationIncludedInBlock(
+      final UInt64 slot, final Attestation attestation) {
     // Record validators in attestation as seen in this slot
     // Important to do even if the attestation is redundant so we handle re-orgs correctly
     includedValidatorsBySlot.compute(
@@ -198,6 +317,7 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
       return 0;
     }
     includedValidators.or(attestation);
+    invalidateCachedAggregates();
 
     final Collection<Set<ValidatableAttestation>> attestationSets =
         attestationsByValidatorCount.values();
@@ -219,7 +339,7 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
     return numRemoved;
   }
 
-  public void onReorg(final UInt64 commonAncestorSlot) {
+  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
     final NavigableMap<UInt64, AttestationBitsAggregator> removedSlots =
         includedValidatorsBySlot.tailMap(commonAncestorSlot, false);
     if (removedSlots.isEmpty()) {
@@ -231,13 +351,19 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
     // can't do a simple remove
     includedValidators = createEmptyAttestationBits();
     includedValidatorsBySlot.values().forEach(includedValidators::or);
+    invalidateCachedAggregates();
   }
 
-  public boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
+  private void invalidateCachedAggregates() {
+    version++;
+    cachedAggregatesByCommitteeIndex.clear();
+  }
+
+  public synchronized boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
     return committeeShufflingSeed.map(validSeeds::contains).orElse(false);
   }
 
-  private boolean noMatchingAttestations(
+  private synchronized boolean noMatchingAttestations(
       final Optional<UInt64> committeeIndex, final boolean requiresCommitteeBits) {
     return requiresCommitteeBits != includedValidators.requiresCommitteeBits()
         || noMatchingPreElectraAttestations(committeeIndex);
@@ -249,16 +375,64 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
         && !attestationData.getIndex().equals(committeeIndex.get());
   }
 
+  private static boolean isAttestationRelevant(
+      final ValidatableAttestation candidate, final Optional<UInt64> maybeCommitteeIndex) {
+    final Optional<SszBitvector> maybeCommitteeBits =
+        candidate.getAttestation().getCommitteeBits();
+    if (maybeCommitteeBits.isEmpty()) {
+      // Pre-Electra attestation, we always consider all attestations
+      return true;
+    }
+
+    if (maybeCommitteeIndex.isEmpty()) {
+      // we are in block proposal scenario (not filtering by committeeIndex)
+      // we will skip single attestations
+      return !candidate.getUnconvertedAttestation().isSingleAttestation();
+    }
+
+    // we are in committee aggregation scenario
+    final SszBitvector committeeBits = maybeCommitteeBits.get();
+    if (!committeeBits.isSet(maybeCommitteeIndex.get().intValue())) {
+      // the committeeIndex must match
+      return false;
+    }
+
+    // we want to aggregate attestations for a single committee only
+    return committeeBits.getBitCount() == 1;
+  }
+
+  private static class CachedAggregates {
+    private List<ValidatableAttestation> aggregates;
+    private final AttestationBitsAggregator coveredValidators;
+    private long signatureAdditions;
+
+    private CachedAggregates(
+        final List<ValidatableAttestation> aggregates,
+        final AttestationBitsAggregator coveredValidators,
+        final long signatureAdditions) {
+      this.aggregates = aggregates;
+      this.coveredValidators = coveredValidators;
+      this.signatureAdditions = signatureAdditions;
+    }
+  }
+
   private class AggregatingIterator implements Iterator<ValidatableAttestation> {
 
     private final Optional<UInt64> maybeCommitteeIndex;
     private final AttestationBitsAggregator includedValidators;
+    private final List<ValidatableAttestation> attestations;
+    private long signatureAdditions;
 
-    private Iterator<ValidatableAttestation> remainingAttestations = getRemainingAttestations();
+    private Iterator<ValidatableAttestation> remainingAttestations;
 
     private AggregatingIterator(final Optional<UInt64> committeeIndex) {
       this.maybeCommitteeIndex = committeeIndex;
-      includedValidators = MatchingDataAttestationGroup.this.includedValidators.copy();
+      synchronized (MatchingDataAttestationGroup.this) {
+        includedValidators = MatchingDataAttestationGroup.this.includedValidators.copy();
+        attestations =
+            attestationsByValidatorCount.values().stream().flatMap(Set::stream).toList();
+      }
+      remainingAttestations = getRemainingAttestations();
     }
 
     @Override
@@ -279,40 +453,15 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
               includedValidators.or(candidate.getAttestation());
             }
           });
+      signatureAdditions += builder.getIncludedAttestations().size() - 1;
       return builder.buildAggregate();
     }
 
     public Iterator<ValidatableAttestation> getRemainingAttestations() {
-      return attestationsByValidatorCount.values().stream()
-          .flatMap(Set::stream)
-          .filter(this::isAttestationRelevant)
+      return attestations.stream()
+          .filter(candidate -> isAttestationRelevant(candidate, maybeCommitteeIndex))
           .filter(candidate -> !includedValidators.isSuperSetOf(candidate.getAttestation()))
           .iterator();
     }
-
-    private boolean isAttestationRelevant(final ValidatableAttestation candidate) {
-      final Optional<SszBitvector> maybeCommitteeBits =
-          candidate.getAttestation().getCommitteeBits();
-      if (maybeCommitteeBits.isEmpty()) {
-        // Pre-Electra attestation, we always consider all attestations
-        return true;
-      }
-
-      if (maybeCommitteeIndex.isEmpty()) {
-        // we are in block proposal scenario (not filtering by committeeIndex)
-        // we will skip single attestations
-        return !candidate.getUnconvertedAttestation().isSingleAttestation();
-      }
-
-      // we are in committee aggregation scenario
-      final SszBitvector committeeBits = maybeCommitteeBits.get();
-      if (!committeeBits.isSet(maybeCommitteeIndex.get().intValue())) {
-        // the committeeIndex must match
-        return false;
-      }
-
-      // we want to aggregate attestations for a single committee only
-      return committeeBits.getBitCount() == 1;
-    }
   }
 }
@@ -73,6 +73,15 @@ public interface BlobSidecarManager {
   BlobSidecarsAndValidationResult createAvailabilityCheckerAndValidateImmediately(
       SignedBeaconBlock block, List<BlobSidecar> blobSidecars);
 
+  /**
+   * Verifies the KZG proofs of the blob sidecars of several blocks in as few batches as possible,
+   * marking the sidecars of every block which passed as validated so the per block availability
+   * checks can skip them. Sidecars of blocks which fail are left for those checks to reject.
+   *
+   * @param blobSidecarsByBlock the blob sidecars of each block
+   */
+  default void preValidateKzgProofs(final List<List<BlobSidecar>> blobSidecarsByBlock) {}
+
   interface ReceivedBlobSidecarListener {
     void onBlobSidecarReceived(BlobSidecar blobSidecar);
   }
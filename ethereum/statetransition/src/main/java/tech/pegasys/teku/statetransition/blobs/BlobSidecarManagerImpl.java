@@ -26,6 +26,7 @@ import tech.pegasys.teku.kzg.KZG;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.versions.deneb.blobs.BlobSidecarsAndValidationResult;
 import tech.pegasys.teku.spec.logic.versions.deneb.blobs.BlobSidecarsAvailabilityChecker;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceBlobSidecarsAvailabilityChecker;
@@ -45,6 +46,7 @@ public class BlobSidecarManagerImpl implements BlobSidecarManager, SlotEventsCha
   private final ForkChoiceBlobSidecarsAvailabilityCheckerProvider
       forkChoiceBlobSidecarsAvailabilityCheckerProvider;
   private final UnpooledBlockBlobSidecarsTrackerProvider unpooledBlockBlobSidecarsTrackerProvider;
+  private final KZG kzg;
 
   private final Subscribers<ReceivedBlobSidecarListener> receivedBlobSidecarSubscribers =
       Subscribers.create(true);
@@ -64,6 +66,7 @@ public class BlobSidecarManagerImpl implements BlobSidecarManager, SlotEventsCha
         validator,
         futureBlobSidecars,
         invalidBlobSidecarRoots,
+        kzg,
         (tracker) ->
             new ForkChoiceBlobSidecarsAvailabilityChecker(spec, recentChainData, tracker, kzg),
         (block) -> new BlockBlobSidecarsTracker(block.getSlotAndBlockRoot()));
@@ -77,6 +80,7 @@ public class BlobSidecarManagerImpl implements BlobSidecarManager, SlotEventsCha
       final BlobSidecarGossipValidator validator,
       final FutureItems<BlobSidecar> futureBlobSidecars,
       final Map<Bytes32, InternalValidationResult> invalidBlobSidecarRoots,
+      final KZG kzg,
       final ForkChoiceBlobSidecarsAvailabilityCheckerProvider
           forkChoiceBlobSidecarsAvailabilityCheckerProvider,
       final UnpooledBlockBlobSidecarsTrackerProvider unpooledBlockBlobSidecarsTrackerProvider) {
@@ -89,6 +93,7 @@ public class BlobSidecarManagerImpl implements BlobSidecarManager, SlotEventsCha
     this.forkChoiceBlobSidecarsAvailabilityCheckerProvider =
         forkChoiceBlobSidecarsAvailabilityCheckerProvider;
     this.unpooledBlockBlobSidecarsTrackerProvider = unpooledBlockBlobSidecarsTrackerProvider;
+    this.kzg = kzg;
   }
 
   @Override
@@ -195,6 +200,29 @@ public class BlobSidecarManagerImpl implements BlobSidecarManager, SlotEventsCha
     }
   }
 
+  @Override
+  public void preValidateKzgProofs(final List<List<BlobSidecar>> blobSidecarsByBlock) {
+    final List<List<BlobSidecar>> blocksWithBlobSidecars =
+        blobSidecarsByBlock.stream().filter(blobSidecars -> !blobSidecars.isEmpty()).toList();
+    if (!blocksWithBlobSidecars.isEmpty()) {
+      verifyKzgProofsOrBisect(blocksWithBlobSidecars);
+    }
+  }
+
+  private void verifyKzgProofsOrBisect(final List<List<BlobSidecar>> blobSidecarsByBlock) {
+    final List<BlobSidecar> blobSidecars =
+        blobSidecarsByBlock.stream().flatMap(List::stream).toList();
+    final MiscHelpers miscHelpers = spec.atSlot(blobSidecars.getFirst().getSlot()).miscHelpers();
+    if (miscHelpers.verifyBlobKzgProofBatch(kzg, blobSidecars)
+        || blobSidecarsByBlock.size() == 1) {
+      return;
+    }
+    // Narrow down the offending blocks so the sidecars of all other blocks still get validated
+    final int middle = blobSidecarsByBlock.size() / 2;
+    verifyKzgProofsOrBisect(blobSidecarsByBlock.subList(0, middle));
+    verifyKzgProofsOrBisect(blobSidecarsByBlock.subList(middle, blobSidecarsByBlock.size()));
+  }
+
   @Override
   public void onSlot(final UInt64 slot) {
     blockBlobSidecarsTrackersPool.onSlot(slot);
@@ -45,6 +45,8 @@ public class BlockImportPerformance {
   public static final String EXECUTION_PAYLOAD_RESULT_RECEIVED_LABEL =
       "execution_payload_result_received";
 
+  public static final String SIGNATURES_VERIFIED_LABEL = "signatures_verified";
+
   public static final String DATA_AVAILABILITY_CHECKED_LABEL = "data_availability_checked";
 
   public static final String BEGIN_IMPORTING_LABEL = "begin_importing";
@@ -101,6 +103,10 @@ public class BlockImportPerformance {
     performanceTracker.addEvent(EXECUTION_PAYLOAD_RESULT_RECEIVED_LABEL);
   }
 
+  public void signaturesVerified() {
+    performanceTracker.addEvent(SIGNATURES_VERIFIED_LABEL);
+  }
+
   public void dataAvailabilityChecked() {
     performanceTracker.addEvent(DATA_AVAILABILITY_CHECKED_LABEL);
   }
@@ -33,6 +33,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -65,6 +66,7 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -97,6 +99,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   private final BlobSidecarManager blobSidecarManager;
   private final ForkChoiceNotifier forkChoiceNotifier;
   private final MergeTransitionBlockValidator transitionBlockValidator;
+  private final Optional<AsyncRunner> signatureVerificationAsyncRunner;
   private final AttestationStateSelector attestationStateSelector;
   private final DeferredAttestations deferredAttestations = new DeferredAttestations();
 
@@ -124,6 +127,39 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final boolean forkChoiceLateBlockReorgEnabled,
       final DebugDataDumper debugDataDumper,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        forkChoiceExecutor,
+        recentChainData,
+        blobSidecarManager,
+        forkChoiceNotifier,
+        forkChoiceStateProvider,
+        tickProcessor,
+        transitionBlockValidator,
+        Optional.empty(),
+        forkChoiceLateBlockReorgEnabled,
+        debugDataDumper,
+        metricsSystem);
+  }
+
+  /**
+   * @param signatureVerificationAsyncRunner when present, block signatures are batch verified on
+   *     this runner concurrently with execution payload validation and data availability checks
+   *     instead of inline with the state transition
+   */
+  public ForkChoice(
+      final Spec spec,
+      final EventThread forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final BlobSidecarManager blobSidecarManager,
+      final ForkChoiceNotifier forkChoiceNotifier,
+      final ForkChoiceStateProvider forkChoiceStateProvider,
+      final TickProcessor tickProcessor,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final Optional<AsyncRunner> signatureVerificationAsyncRunner,
+      final boolean forkChoiceLateBlockReorgEnabled,
+      final DebugDataDumper debugDataDumper,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.blobSidecarManager = blobSidecarManager;
@@ -131,6 +167,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     this.recentChainData = recentChainData;
     this.forkChoiceNotifier = forkChoiceNotifier;
     this.transitionBlockValidator = transitionBlockValidator;
+    this.signatureVerificationAsyncRunner = signatureVerificationAsyncRunner;
     this.attestationStateSelector =
         new AttestationStateSelector(spec, recentChainData, metricsSystem);
     this.tickProcessor = tickProcessor;
@@ -450,6 +487,9 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
     blobSidecarsAvailabilityChecker.initiateDataAvailabilityCheck();
 
+    // Signatures are only collected during the state transition and batch verified as a separate
+    // stage, so they can be checked while the execution layer validates the payload
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
     final BeaconState postState;
     try {
       postState =
@@ -458,6 +498,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
+                  signatureVerifier,
                   Optional.of(payloadExecutor));
     } catch (final StateTransitionException e) {
       final BlockImportResult result = BlockImportResult.failedStateTransition(e);
@@ -466,17 +507,32 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     }
     blockImportPerformance.ifPresent(BlockImportPerformance::postStateCreated);
 
+    final SafeFuture<Boolean> signatureVerificationFuture =
+        verifyBlockSignatures(signatureVerifier)
+            .thenPeek(
+                __ -> blockImportPerformance.ifPresent(BlockImportPerformance::signaturesVerified));
+
     final SafeFuture<BlobSidecarsAndValidationResult> blobSidecarsAvailabilityFuture =
         blobSidecarsAvailabilityChecker
             .getAvailabilityCheckResult()
             .thenPeek(
-                result -> {
-                  blockImportPerformance.ifPresent(BlockImportPerformance::dataAvailabilityChecked);
-                  // consensus validation is completed when DA check is completed
-                  if (result.isSuccess()) {
-                    blockBroadcastValidator.onConsensusValidationSucceeded();
-                  }
-                });
+                __ ->
+                    blockImportPerformance.ifPresent(
+                        BlockImportPerformance::dataAvailabilityChecked));
+
+    // consensus validation is completed when both signatures and DA check are completed
+    signatureVerificationFuture
+        .thenCombine(
+            blobSidecarsAvailabilityFuture,
+            (signaturesValid, blobSidecarsAndValidationResult) ->
+                signaturesValid && blobSidecarsAndValidationResult.isSuccess())
+        .finish(
+            consensusValidationSucceeded -> {
+              if (consensusValidationSucceeded) {
+                blockBroadcastValidator.onConsensusValidationSucceeded();
+              }
+            },
+            error -> LOG.debug("Consensus validation failed for block {}", block::toLogString));
 
     final SafeFuture<PayloadValidationResult> payloadValidationFuture =
         payloadExecutor
@@ -494,22 +550,41 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                 return SafeFuture.completedFuture(BlockImportResult.FAILED_BROADCAST_VALIDATION);
               }
 
-              return payloadValidationFuture.thenCombineAsync(
-                  blobSidecarsAvailabilityFuture,
-                  (payloadResult, blobSidecarsAndValidationResult) ->
-                      importBlockAndState(
-                          block,
-                          blockSlotState.get(),
-                          blockImportPerformance,
-                          forkChoiceUtil,
-                          indexedAttestationCache,
-                          postState,
-                          payloadResult,
-                          blobSidecarsAndValidationResult),
-                  forkChoiceExecutor);
+              return signatureVerificationFuture.thenCompose(
+                  signaturesValid -> {
+                    if (!signaturesValid) {
+                      final BlockImportResult result =
+                          BlockImportResult.failedStateTransition(
+                              new StateTransitionException(
+                                  "Batch signature verification failed for block "
+                                      + block.toLogString()));
+                      reportInvalidBlock(block, result);
+                      return SafeFuture.completedFuture(result);
+                    }
+                    return payloadValidationFuture.thenCombineAsync(
+                        blobSidecarsAvailabilityFuture,
+                        (payloadResult, blobSidecarsAndValidationResult) ->
+                            importBlockAndState(
+                                block,
+                                blockSlotState.get(),
+                                blockImportPerformance,
+                                forkChoiceUtil,
+                                indexedAttestationCache,
+                                postState,
+                                payloadResult,
+                                blobSidecarsAndValidationResult),
+                        forkChoiceExecutor);
+                  });
             });
   }
 
+  private SafeFuture<Boolean> verifyBlockSignatures(
+      final BatchSignatureVerifier signatureVerifier) {
+    return signatureVerificationAsyncRunner
+        .map(asyncRunner -> asyncRunner.runAsync(signatureVerifier::batchVerify))
+        .orElseGet(() -> SafeFuture.of(signatureVerifier::batchVerify));
+  }
+
   private BlockImportResult importBlockAndState(
       final SignedBeaconBlock block,
       final BeaconState blockSlotState,
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
@@ -55,8 +56,7 @@ public class SignedContributionAndProofValidator {
   private final Spec spec;
   private final Set<SourceUniquenessKey> seenIndices =
       LimitedSet.createSynchronized(VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
-  private final SeenAggregatesCache<TargetUniquenessKey> seenAggregatesCache =
-      new SeenAggregatesCache<>(VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
+  private final SeenAggregatesCache<TargetUniquenessKey> seenAggregatesCache;
   private final SyncCommitteeStateUtils syncCommitteeStateUtils;
   private final AsyncBLSSignatureVerifier signatureVerifier;
   private final SyncCommitteeCurrentSlotUtil slotUtil;
@@ -68,8 +68,12 @@ public class SignedContributionAndProofValidator {
       final RecentChainData recentChainData,
       final SyncCommitteeStateUtils syncCommitteeStateUtils,
       final TimeProvider timeProvider,
-      final AsyncBLSSignatureVerifier signatureVerifier) {
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
+    this.seenAggregatesCache =
+        new SeenAggregatesCache<>(
+            metricsSystem, "sync_contribution", VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
     this.syncCommitteeStateUtils = syncCommitteeStateUtils;
     this.signatureVerifier = signatureVerifier;
     this.recentChainData = recentChainData;
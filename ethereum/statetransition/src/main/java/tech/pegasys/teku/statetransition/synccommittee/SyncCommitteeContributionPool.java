@@ -13,10 +13,11 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -31,6 +32,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.statetransition.OperationAddedSubscriber;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 
@@ -40,8 +42,8 @@ public class SyncCommitteeContributionPool implements SlotEventsChannel {
   private final Subscribers<OperationAddedSubscriber<SignedContributionAndProof>> subscribers =
       Subscribers.create(true);
 
-  /** contribution.slot -> contribution.block -> contribution.subcommitteeIndex -> contribution */
-  private final NavigableMap<UInt64, Map<Bytes32, Map<Integer, SyncCommitteeContribution>>>
+  /** contribution.slot -> contribution.block -> best contributions for each subcommittee */
+  private final NavigableMap<UInt64, Map<Bytes32, BlockRootContributions>>
       contributionsBySlotAndBlockRoot = new TreeMap<>();
 
   public SyncCommitteeContributionPool(
@@ -86,14 +88,11 @@ public class SyncCommitteeContributionPool implements SlotEventsChannel {
     final int subcommitteeIndex = contribution.getSubcommitteeIndex().intValue();
     contributionsBySlotAndBlockRoot
         .computeIfAbsent(contribution.getSlot(), __ -> new HashMap<>())
-        .computeIfAbsent(contribution.getBeaconBlockRoot(), __ -> new Int2ObjectOpenHashMap<>())
-        .compute(
-            subcommitteeIndex,
-            (subcommittee, existingContribution) ->
-                betterContribution(existingContribution, contribution));
+        .computeIfAbsent(contribution.getBeaconBlockRoot(), __ -> new BlockRootContributions())
+        .add(subcommitteeIndex, contribution);
   }
 
-  private SyncCommitteeContribution betterContribution(
+  private static SyncCommitteeContribution betterContribution(
       final SyncCommitteeContribution a, final SyncCommitteeContribution b) {
     if (a == null) {
       return b;
@@ -118,12 +117,13 @@ public class SyncCommitteeContributionPool implements SlotEventsChannel {
   public synchronized SyncAggregate createSyncAggregateForBlock(
       final UInt64 blockSlot, final Bytes32 parentRoot) {
     final UInt64 slot = blockSlot.minusMinZero(1);
-    final Collection<SyncCommitteeContribution> contributions =
-        contributionsBySlotAndBlockRoot
-            .getOrDefault(slot, emptyMap())
-            .getOrDefault(parentRoot, emptyMap())
-            .values();
-    return spec.getSyncCommitteeUtilRequired(blockSlot).createSyncAggregate(contributions);
+    final SyncCommitteeUtil syncCommitteeUtil = spec.getSyncCommitteeUtilRequired(blockSlot);
+    final BlockRootContributions contributions =
+        contributionsBySlotAndBlockRoot.getOrDefault(slot, emptyMap()).get(parentRoot);
+    if (contributions == null) {
+      return syncCommitteeUtil.createSyncAggregate(emptyList());
+    }
+    return contributions.getOrCreateSyncAggregate(syncCommitteeUtil);
   }
 
   /**
@@ -138,4 +138,34 @@ public class SyncCommitteeContributionPool implements SlotEventsChannel {
   public synchronized void onSlot(final UInt64 slot) {
     contributionsBySlotAndBlockRoot.headMap(slot.minusMinZero(2), false).clear();
   }
+
+  /**
+   * The best contribution for each subcommittee for a single slot and block root, with the {@link
+   * SyncAggregate} built from them cached until a better contribution arrives.
+   */
+  private static class BlockRootContributions {
+    private final Int2ObjectMap<SyncCommitteeContribution> contributionsBySubcommittee =
+        new Int2ObjectOpenHashMap<>();
+    private Optional<SyncAggregate> syncAggregate = Optional.empty();
+
+    public void add(final int subcommitteeIndex, final SyncCommitteeContribution contribution) {
+      final SyncCommitteeContribution existingContribution =
+          contributionsBySubcommittee.get(subcommitteeIndex);
+      final SyncCommitteeContribution bestContribution =
+          betterContribution(existingContribution, contribution);
+      if (bestContribution != existingContribution) {
+        contributionsBySubcommittee.put(subcommitteeIndex, bestContribution);
+        syncAggregate = Optional.empty();
+      }
+    }
+
+    public SyncAggregate getOrCreateSyncAggregate(final SyncCommitteeUtil syncCommitteeUtil) {
+      if (syncAggregate.isEmpty()) {
+        syncAggregate =
+            Optional.of(
+                syncCommitteeUtil.createSyncAggregate(contributionsBySubcommittee.values()));
+      }
+      return syncAggregate.get();
+    }
+  }
 }
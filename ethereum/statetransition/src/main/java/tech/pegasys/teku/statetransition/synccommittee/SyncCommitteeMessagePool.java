@@ -13,10 +13,12 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -119,13 +122,15 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
     return getContributionData(slot, blockRoot, subcommitteeIndex)
         .map(
             contributionData ->
-                spec.getSyncCommitteeUtilRequired(slot)
-                    .createSyncCommitteeContribution(
-                        slot,
-                        blockRoot,
-                        UInt64.valueOf(subcommitteeIndex),
-                        contributionData.getParticipationIndices(),
-                        contributionData.getAggregatedSignature()));
+                contributionData.getOrCreateContribution(
+                    () ->
+                        spec.getSyncCommitteeUtilRequired(slot)
+                            .createSyncCommitteeContribution(
+                                slot,
+                                blockRoot,
+                                UInt64.valueOf(subcommitteeIndex),
+                                contributionData.getParticipationIndices(),
+                                contributionData.getAggregatedSignature())));
   }
 
   /**
@@ -174,30 +179,54 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
     }
   }
 
+  /**
+   * Keeps a running aggregate of the messages for one subcommittee so producing a contribution
+   * doesn't need to aggregate every message again.
+   */
   private static class ContributionData {
-    private final IntSet participationIndices = new IntOpenHashSet();
-    private final List<BLSSignature> signatures = new ArrayList<>();
+    private final BitSet participationBits = new BitSet();
+    private Optional<BLSSignature> aggregatedSignature = Optional.empty();
+    private Optional<SyncCommitteeContribution> contribution = Optional.empty();
 
     public void add(final IntSet participationIndices, final BLSSignature signature) {
+      final List<BLSSignature> signatures = new ArrayList<>();
       IntIterator iterator = participationIndices.iterator();
       while (iterator.hasNext()) {
         final int index = iterator.nextInt();
-        if (this.participationIndices.add(index)) {
-          this.signatures.add(signature);
+        if (!participationBits.get(index)) {
+          participationBits.set(index);
+          // The signature is included once for each position the validator fills
+          signatures.add(signature);
         } else {
           LOG.trace(
               "Ignoring already aggregated signature from subcommittee participant index = {}",
               index);
         }
       }
+      if (signatures.isEmpty()) {
+        return;
+      }
+      aggregatedSignature.ifPresent(signatures::add);
+      aggregatedSignature = Optional.of(BLS.aggregate(signatures));
+      contribution = Optional.empty();
     }
 
-    public IntSet getParticipationIndices() {
-      return participationIndices;
+    public IntList getParticipationIndices() {
+      final IntList indices = new IntArrayList(participationBits.cardinality());
+      participationBits.stream().forEach(indices::add);
+      return indices;
     }
 
     public BLSSignature getAggregatedSignature() {
-      return signatures.isEmpty() ? BLSSignature.infinity() : BLS.aggregate(signatures);
+      return aggregatedSignature.orElseGet(BLSSignature::infinity);
+    }
+
+    public SyncCommitteeContribution getOrCreateContribution(
+        final Supplier<SyncCommitteeContribution> contributionFactory) {
+      if (contribution.isEmpty()) {
+        contribution = Optional.of(contributionFactory.get());
+      }
+      return contribution.get();
     }
   }
 }
@@ -14,10 +14,14 @@
 package tech.pegasys.teku.statetransition.util;
 
 import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +36,9 @@ import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -49,7 +56,7 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   private final Subscribers<RequiredBlockRootDroppedSubscriber>
       requiredBlockRootDroppedSubscribers = Subscribers.create(true);
 
-  private final Map<Bytes32, T> pendingItems = new HashMap<>();
+  private final Map<Bytes32, PendingItem<T>> pendingItems = new HashMap<>();
   private final NavigableSet<SlotAndRoot> orderedPendingItems =
       new TreeSet<>(SLOT_AND_ROOT_COMPARATOR);
   private final Map<Bytes32, Set<Bytes32>> pendingItemsByRequiredBlockRoot = new HashMap<>();
@@ -59,9 +66,13 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   private final Function<T, Collection<Bytes32>> requiredBlockRootsFunction;
   private final Function<T, UInt64> targetSlotFunction;
   private final SettableLabelledGauge sizeGauge;
+  private final LabelledMetric<Counter> removedItemsCounter;
+  private final MetricsHistogram queueSlotsHistogram;
 
   PendingPool(
       final SettableLabelledGauge sizeGauge,
+      final LabelledMetric<Counter> removedItemsCounter,
+      final MetricsHistogram queueSlotsHistogram,
       final String itemType,
       final Spec spec,
       final UInt64 historicalSlotTolerance,
@@ -77,6 +88,8 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
     this.requiredBlockRootsFunction = requiredBlockRootsFunction;
     this.targetSlotFunction = targetSlotFunction;
     this.sizeGauge = sizeGauge;
+    this.removedItemsCounter = removedItemsCounter;
+    this.queueSlotsHistogram = queueSlotsHistogram;
     sizeGauge.set(0, itemType); // Init the label so it appears in metrics immediately
   }
 
@@ -86,16 +99,21 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       return;
     }
 
+    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
+    if (pendingItems.containsKey(itemRoot)) {
+      return;
+    }
+
     // Make room for the new item
     while (pendingItems.size() > (maxItems - 1)) {
+      // Evict the item furthest behind the current slot, it's the least likely to still be useful
       final SlotAndRoot toRemove = orderedPendingItems.pollFirst();
       if (toRemove == null) {
         break;
       }
-      remove(pendingItems.get(toRemove.getRoot()));
+      remove(toRemove.getRoot(), RemovalReason.CAPACITY);
     }
 
-    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
     final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
     final ArrayList<Bytes32> newRequiredRoots = new ArrayList<>();
 
@@ -117,36 +135,44 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
             requiredBlockRootSubscribers.forEach(s -> s.onRequiredBlockRoot(requiredRoot)));
 
     // Index item by root
-    if (pendingItems.putIfAbsent(itemRoot, item) == null) {
-      LOG.trace(
-          "Save unattached item at slot {} for future import: {}",
-          targetSlotFunction.apply(item),
-          item);
-      sizeGauge.set(pendingItems.size(), itemType);
-    }
+    final SlotAndRoot slotAndRoot = new SlotAndRoot(targetSlotFunction.apply(item), itemRoot);
+    pendingItems.put(
+        itemRoot, new PendingItem<>(item, slotAndRoot, requiredRoots, getCurrentSlot()));
+    LOG.trace("Save unattached item at slot {} for future import: {}", slotAndRoot.getSlot(), item);
+    sizeGauge.set(pendingItems.size(), itemType);
 
-    orderedPendingItems.add(toSlotAndRoot(item));
+    orderedPendingItems.add(slotAndRoot);
   }
 
-  public synchronized void remove(final T item) {
-    final SlotAndRoot itemSlotAndRoot = toSlotAndRoot(item);
-    orderedPendingItems.remove(itemSlotAndRoot);
-    pendingItems.remove(itemSlotAndRoot.getRoot());
+  public void remove(final T item) {
+    remove(hashTreeRootFunction.apply(item), RemovalReason.REMOVED);
+  }
 
-    final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
-    requiredRoots.forEach(
-        requiredRoot -> {
-          Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
-          if (childSet == null) {
-            return;
-          }
-          childSet.remove(itemSlotAndRoot.getRoot());
-          if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
-            requiredBlockRootDroppedSubscribers.forEach(
-                s -> s.onRequiredBlockRootDropped(requiredRoot));
-          }
-        });
+  private synchronized void remove(final Bytes32 itemRoot, final RemovalReason reason) {
+    final PendingItem<T> pendingItem = pendingItems.remove(itemRoot);
+    if (pendingItem == null) {
+      return;
+    }
+    orderedPendingItems.remove(pendingItem.slotAndRoot());
+
+    pendingItem
+        .requiredRoots()
+        .forEach(
+            requiredRoot -> {
+              Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
+              if (childSet == null) {
+                return;
+              }
+              childSet.remove(itemRoot);
+              if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
+                requiredBlockRootDroppedSubscribers.forEach(
+                    s -> s.onRequiredBlockRootDropped(requiredRoot));
+              }
+            });
     sizeGauge.set(pendingItems.size(), itemType);
+    removedItemsCounter.labels(itemType, reason.metricLabel).inc();
+    queueSlotsHistogram.recordValue(
+        getCurrentSlot().minusMinZero(pendingItem.queuedAtSlot()).longValue(), itemType);
   }
 
   public synchronized int size() {
@@ -163,7 +189,7 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   }
 
   public synchronized Optional<T> get(final Bytes32 itemRoot) {
-    return Optional.ofNullable(pendingItems.get(itemRoot));
+    return Optional.ofNullable(pendingItems.get(itemRoot)).map(PendingItem::item);
   }
 
   public synchronized Set<Bytes32> getAllRequiredBlockRoots() {
@@ -204,7 +230,11 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       return Collections.emptyList();
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    return dependentRoots.stream()
+        .map(pendingItems::get)
+        .filter(Objects::nonNull)
+        .map(PendingItem::item)
+        .toList();
   }
 
   /**
@@ -212,26 +242,67 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
    * if item B depends on item A which in turn depends on {@code blockRoot}, both items A and B are
    * returned.
    *
+   * <p>Items are returned in topological order, so every item comes after all the other returned
+   * items it depends on.
+   *
    * @param blockRoot The block root that some pending items may depend on.
    * @return A list of items that either directly or indirectly depend on the given block root.
    */
   private synchronized List<T> getAllItemsDependingOn(final Bytes32 blockRoot) {
     final Set<Bytes32> dependentRoots = new HashSet<>();
+    final Deque<Bytes32> rootsToVisit = new ArrayDeque<>();
+    rootsToVisit.add(blockRoot);
+    while (!rootsToVisit.isEmpty()) {
+      final Set<Bytes32> roots = pendingItemsByRequiredBlockRoot.get(rootsToVisit.poll());
+      if (roots == null) {
+        continue;
+      }
+      for (Bytes32 root : roots) {
+        if (pendingItems.containsKey(root) && dependentRoots.add(root)) {
+          rootsToVisit.add(root);
+        }
+      }
+    }
 
-    Set<Bytes32> requiredRoots = Set.of(blockRoot);
-    while (!requiredRoots.isEmpty()) {
-      final Set<Bytes32> roots =
-          requiredRoots.stream()
-              .map(pendingItemsByRequiredBlockRoot::get)
-              .filter(Objects::nonNull)
-              .flatMap(Set::stream)
-              .collect(Collectors.toSet());
-
-      dependentRoots.addAll(roots);
-      requiredRoots = roots;
+    // Order the dependents by counting how many of their required roots are also being returned
+    final Object2IntMap<Bytes32> unreleasedRequiredRoots = new Object2IntOpenHashMap<>();
+    final List<PendingItem<T>> releasable = new ArrayList<>();
+    for (Bytes32 root : dependentRoots) {
+      final PendingItem<T> pendingItem = pendingItems.get(root);
+      final int count =
+          (int)
+              pendingItem.requiredRoots().stream()
+                  .distinct()
+                  .filter(dependentRoots::contains)
+                  .count();
+      if (count == 0) {
+        releasable.add(pendingItem);
+      } else {
+        unreleasedRequiredRoots.put(root, count);
+      }
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    final List<T> result = new ArrayList<>(dependentRoots.size());
+    for (int i = 0; i < releasable.size(); i++) {
+      final PendingItem<T> pendingItem = releasable.get(i);
+      result.add(pendingItem.item());
+      final Set<Bytes32> children =
+          pendingItemsByRequiredBlockRoot.getOrDefault(
+              pendingItem.slotAndRoot().getRoot(), Collections.emptySet());
+      for (Bytes32 child : children) {
+        if (!unreleasedRequiredRoots.containsKey(child)) {
+          continue;
+        }
+        final int remaining = unreleasedRequiredRoots.getInt(child) - 1;
+        if (remaining == 0) {
+          unreleasedRequiredRoots.removeInt(child);
+          releasable.add(pendingItems.get(child));
+        } else {
+          unreleasedRequiredRoots.put(child, remaining);
+        }
+      }
+    }
+    return result;
   }
 
   public void subscribeRequiredBlockRoot(final RequiredBlockRootSubscriber subscriber) {
@@ -246,21 +317,15 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   @VisibleForTesting
   @Override
   synchronized void prune(final UInt64 slotLimit) {
-    final List<T> toRemove = new ArrayList<>();
+    final List<Bytes32> toRemove = new ArrayList<>();
     for (SlotAndRoot slotAndRoot : orderedPendingItems) {
       if (slotAndRoot.getSlot().isGreaterThan(slotLimit)) {
         break;
       }
-      toRemove.add(pendingItems.get(slotAndRoot.getRoot()));
+      toRemove.add(slotAndRoot.getRoot());
     }
 
-    toRemove.forEach(this::remove);
-  }
-
-  private SlotAndRoot toSlotAndRoot(final T item) {
-    final UInt64 slot = targetSlotFunction.apply(item);
-    final Bytes32 root = hashTreeRootFunction.apply(item);
-    return new SlotAndRoot(slot, root);
+    toRemove.forEach(root -> remove(root, RemovalReason.PRUNED));
   }
 
   public interface RequiredBlockRootSubscriber {
@@ -271,6 +336,21 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
     void onRequiredBlockRootDropped(Bytes32 blockRoot);
   }
 
+  private enum RemovalReason {
+    REMOVED("removed"),
+    CAPACITY("capacity"),
+    PRUNED("pruned");
+
+    private final String metricLabel;
+
+    RemovalReason(final String metricLabel) {
+      this.metricLabel = metricLabel;
+    }
+  }
+
+  private record PendingItem<T>(
+      T item, SlotAndRoot slotAndRoot, Collection<Bytes32> requiredRoots, UInt64 queuedAtSlot) {}
+
   private static class SlotAndRoot {
     private final UInt64 slot;
     private final Bytes32 root;
@@ -15,6 +15,7 @@ package tech.pegasys.teku.statetransition.util;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -22,6 +23,7 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
@@ -43,6 +45,8 @@ public class PoolFactory {
   private static final int DEFAULT_MAX_BLOCKS = 5000;
 
   private final SettableLabelledGauge pendingPoolsSizeGauge;
+  private final LabelledMetric<Counter> pendingPoolsRemovedItemsCounter;
+  private final MetricsHistogram pendingPoolsQueueSlotsHistogram;
   private final SettableLabelledGauge blockBlobSidecarsTrackersPoolSizeGauge;
   private final LabelledMetric<Counter> blockBlobSidecarsTrackersPoolStats;
 
@@ -55,6 +59,23 @@ public class PoolFactory {
             "Number of items in pending pool",
             "type");
 
+    this.pendingPoolsRemovedItemsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "pending_pool_removed_items_total",
+            "Number of items removed from pending pool by reason",
+            "type",
+            "reason");
+
+    this.pendingPoolsQueueSlotsHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "pending_pool_queue_slots",
+            "Histogram of the number of slots items waited in pending pool",
+            3,
+            List.of("type"));
+
     this.blockBlobSidecarsTrackersPoolSizeGauge =
         SettableLabelledGauge.create(
             metricsSystem,
@@ -87,6 +108,8 @@ public class PoolFactory {
       final int maxItems) {
     return new PendingPool<>(
         pendingPoolsSizeGauge,
+        pendingPoolsRemovedItemsCounter,
+        pendingPoolsQueueSlotsHistogram,
         "blocks",
         spec,
         historicalBlockTolerance,
@@ -102,6 +125,8 @@ public class PoolFactory {
 
     return new PendingPool<>(
         pendingPoolsSizeGauge,
+        pendingPoolsRemovedItemsCounter,
+        pendingPoolsQueueSlotsHistogram,
         "attestations",
         spec,
         DEFAULT_HISTORICAL_SLOT_TOLERANCE,
@@ -13,39 +13,164 @@
 
 package tech.pegasys.teku.statetransition.util;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.collections.BlockedBloomFilter;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitSet;
 
+/**
+ * Tracks the aggregation bits seen for each key so that aggregates which are a subset of one
+ * already seen can be ignored.
+ *
+ * <p>Aggregation bits are stored as packed {@code long[]} words so subset checks are word-wise
+ * rather than per bit. A bloom filter in front of the LRU map lets lookups for keys that have never
+ * been seen skip the map's lock entirely.
+ */
 public class SeenAggregatesCache<KeyT> {
 
-  private final Map<KeyT, Set<SszBitSet>> seenAggregationBitsByDataRoot;
+  private final Map<KeyT, SeenAggregationBits> seenAggregationBitsByDataRoot;
+  private final int rootCacheSize;
+  private final LabelledMetric<Counter> lookupCounter;
+  private final Object filterLock = new Object();
+  private volatile BlockedBloomFilter seenKeysFilter;
+  private int insertionsSinceFilterRebuild = 0;
 
-  public SeenAggregatesCache(final int rootCacheSize) {
+  public SeenAggregatesCache(
+      final MetricsSystem metricsSystem, final String metricPrefix, final int rootCacheSize) {
     this.seenAggregationBitsByDataRoot = LimitedMap.createSynchronizedLRU(rootCacheSize);
+    this.rootCacheSize = rootCacheSize;
+    this.seenKeysFilter = new BlockedBloomFilter(rootCacheSize);
+    this.lookupCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            metricPrefix + "_seen_aggregates_lookups_total",
+            "Number of seen aggregate lookups by result",
+            "result");
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        metricPrefix + "_seen_aggregates_memory_bytes",
+        "Estimated memory used by seen aggregation bits",
+        this::getEstimatedMemoryBytes);
   }
 
   public boolean add(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenBitlists =
-        seenAggregationBitsByDataRoot.computeIfAbsent(
-            root, key -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
-    if (isAlreadySeen(seenBitlists, aggregationBits)) {
-      return false;
+    final long[] words = toWords(aggregationBits);
+    final SeenAggregationBits seenBits;
+    synchronized (filterLock) {
+      seenBits =
+          seenAggregationBitsByDataRoot.computeIfAbsent(root, __ -> new SeenAggregationBits());
+      seenKeysFilter.add(root);
+      insertionsSinceFilterRebuild++;
+      if (insertionsSinceFilterRebuild > rootCacheSize * 2) {
+        rebuildFilter();
+      }
     }
-    return seenBitlists.add(aggregationBits);
+    return seenBits.add(words);
   }
 
   public boolean isAlreadySeen(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenAggregates =
-        seenAggregationBitsByDataRoot.getOrDefault(root, Collections.emptySet());
-    return isAlreadySeen(seenAggregates, aggregationBits);
+    if (!seenKeysFilter.mightContain(root)) {
+      lookupCounter.labels("filtered").inc();
+      return false;
+    }
+    final SeenAggregationBits seenBits = seenAggregationBitsByDataRoot.get(root);
+    final boolean seen = seenBits != null && seenBits.isSubsetOfSeen(toWords(aggregationBits));
+    lookupCounter.labels(seen ? "seen" : "not_seen").inc();
+    return seen;
   }
 
-  private boolean isAlreadySeen(
-      final Set<SszBitSet> seenAggregates, final SszBitSet aggregationBits) {
-    return seenAggregates.stream().anyMatch(seen -> seen.isSuperSetOf(aggregationBits));
+  /**
+   * Keys evicted from the LRU map remain set in the filter so it is periodically rebuilt from the
+   * current keys to keep its false positive rate low.
+   */
+  private void rebuildFilter() {
+    final BlockedBloomFilter filter = new BlockedBloomFilter(rootCacheSize);
+    synchronized (seenAggregationBitsByDataRoot) {
+      seenAggregationBitsByDataRoot.keySet().forEach(filter::add);
+    }
+    seenKeysFilter = filter;
+    insertionsSinceFilterRebuild = 0;
+  }
+
+  private double getEstimatedMemoryBytes() {
+    long bytes = seenKeysFilter.getSizeInBytes();
+    synchronized (seenAggregationBitsByDataRoot) {
+      for (SeenAggregationBits seenBits : seenAggregationBitsByDataRoot.values()) {
+        bytes += seenBits.getEstimatedMemoryBytes();
+      }
+    }
+    return bytes;
+  }
+
+  static long[] toWords(final SszBitSet bits) {
+    final int[] setBits = bits.streamAllSetBits().toArray();
+    if (setBits.length == 0) {
+      return new long[0];
+    }
+    final long[] words = new long[(setBits[setBits.length - 1] >>> 6) + 1];
+    for (int bit : setBits) {
+      words[bit >>> 6] |= 1L << bit;
+    }
+    return words;
+  }
+
+  /** Returns true if every bit set in {@code bits} is also set in {@code seen}. */
+  static boolean isSubset(final long[] bits, final long[] seen) {
+    for (int i = 0; i < bits.length; i++) {
+      final long seenWord = i < seen.length ? seen[i] : 0;
+      if ((bits[i] & ~seenWord) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class SeenAggregationBits {
+    private final List<long[]> seen = new ArrayList<>(1);
+    // Union of all seen bits, used to quickly reject aggregates with unseen validators
+    private long[] union = new long[0];
+
+    synchronized boolean add(final long[] bits) {
+      if (isSubsetOfSeen(bits)) {
+        return false;
+      }
+      // Anything that's a subset of the new bits will never be the only superset for a lookup
+      seen.removeIf(existing -> isSubset(existing, bits));
+      seen.add(bits);
+      if (union.length < bits.length) {
+        union = Arrays.copyOf(union, bits.length);
+      }
+      for (int i = 0; i < bits.length; i++) {
+        union[i] |= bits[i];
+      }
+      return true;
+    }
+
+    synchronized boolean isSubsetOfSeen(final long[] bits) {
+      if (!isSubset(bits, union)) {
+        return false;
+      }
+      for (long[] existing : seen) {
+        if (isSubset(bits, existing)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    synchronized long getEstimatedMemoryBytes() {
+      long words = union.length;
+      for (long[] existing : seen) {
+        words += existing.length;
+      }
+      return words * Long.BYTES;
+    }
   }
 }
@@ -27,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
@@ -51,8 +52,7 @@ public class AggregateAttestationValidator {
   private static final Logger LOG = LogManager.getLogger();
   private final Set<AggregatorIndexAndEpoch> receivedAggregatorIndexAndEpochs =
       LimitedSet.createSynchronized(VALID_AGGREGATE_SET_SIZE);
-  private final SeenAggregatesCache<DataHashAndCommitteeIndex> seenAggregationBits =
-      new SeenAggregatesCache<>(VALID_ATTESTATION_DATA_SET_SIZE);
+  private final SeenAggregatesCache<DataHashAndCommitteeIndex> seenAggregationBits;
   private final AttestationValidator attestationValidator;
   private final Spec spec;
   private final AsyncBLSSignatureVerifier signatureVerifier;
@@ -60,10 +60,14 @@ public class AggregateAttestationValidator {
   public AggregateAttestationValidator(
       final Spec spec,
       final AttestationValidator attestationValidator,
-      final AsyncBLSSignatureVerifier signatureVerifier) {
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final MetricsSystem metricsSystem) {
     this.attestationValidator = attestationValidator;
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
+    this.seenAggregationBits =
+        new SeenAggregatesCache<>(
+            metricsSystem, "aggregate_attestation", VALID_ATTESTATION_DATA_SET_SIZE);
   }
 
   public void addSeenAggregate(final ValidatableAttestation attestation) {
@@ -15,7 +15,9 @@ package tech.pegasys.teku.statetransition.validation;
 
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -41,6 +43,11 @@ public class AttestationStateSelector {
 
   private final LabelledMetric<Counter> appliedSelectorRule;
 
+  // Gossip attestations arrive in bursts sharing the same head block and target, so concurrent
+  // requests for the same state share a single selection rather than each resolving it.
+  private final Map<StateSelectionKey, SafeFuture<Optional<BeaconState>>> inFlightSelections =
+      new ConcurrentHashMap<>();
+
   public AttestationStateSelector(
       final Spec spec, final RecentChainData recentChainData, final MetricsSystem metricsSystem) {
     this.spec = spec;
@@ -56,6 +63,22 @@ public class AttestationStateSelector {
 
   public SafeFuture<Optional<BeaconState>> getStateToValidate(
       final AttestationData attestationData) {
+    final StateSelectionKey key =
+        new StateSelectionKey(attestationData.getBeaconBlockRoot(), attestationData.getTarget());
+    final SafeFuture<Optional<BeaconState>> inFlightSelection = inFlightSelections.get(key);
+    if (inFlightSelection != null) {
+      appliedSelectorRule.labels("joined_in_flight_selection").inc();
+      return inFlightSelection;
+    }
+    final SafeFuture<Optional<BeaconState>> selection = selectStateToValidate(attestationData);
+    if (!selection.isDone() && inFlightSelections.putIfAbsent(key, selection) == null) {
+      selection.always(() -> inFlightSelections.remove(key, selection));
+    }
+    return selection;
+  }
+
+  private SafeFuture<Optional<BeaconState>> selectStateToValidate(
+      final AttestationData attestationData) {
     final Optional<ChainHead> maybeChainHead = recentChainData.getChainHead();
     if (maybeChainHead.isEmpty()) {
       return completedFuture(Optional.empty());
@@ -247,4 +270,10 @@ public class AttestationStateSelector {
       return completedFuture(Optional.of(blockState));
     }
   }
+
+  /**
+   * The selected state depends only on the attested block and the target, so attestations from
+   * any slot or committee with the same values can share it.
+   */
+  private record StateSelectionKey(Bytes32 beaconBlockRoot, Checkpoint target) {}
 }
@@ -17,16 +17,24 @@ import static java.util.Collections.singletonList;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -36,24 +44,42 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
   static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 25;
+  // Unaggregated messages which have waited longer than a mainnet slot have missed aggregation
+  static final Duration DEFAULT_MAX_DROPPABLE_TASK_WAIT = Duration.ofSeconds(12);
 
   private final AsyncRunner completionRunner;
   private final int numThreads;
   private final int maxBatchSize;
   private final int minBatchSizeToSplit;
+  private final int queueCapacity;
   private final boolean strictThreadLimitEnabled;
+  private final TimeProvider timeProvider;
+  private final UInt64 maxDroppableTaskWaitMillis;
 
-  @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  // Guarded by queueLock. Workers wait on tasksAvailable, which is signalled for every task added
+  private final Map<SignatureVerificationPriority, Queue<SignatureTask>> tasksByPriority =
+      new EnumMap<>(SignatureVerificationPriority.class);
+  private final Lock queueLock = new ReentrantLock();
+  private final Condition tasksAvailable = queueLock.newCondition();
+  private int queuedTasks = 0;
+  private final Map<SignatureVerificationPriority, AsyncBLSSignatureVerifier> verifiersByPriority =
+      new EnumMap<>(SignatureVerificationPriority.class);
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
   private final MetricsHistogram batchSizeHistogram;
+  private final MetricsHistogram queueWaitHistogram;
+  private final LabelledMetric<Counter> expiredTaskCounter;
 
   @VisibleForTesting
   AggregatingSignatureVerificationService(
@@ -64,15 +90,22 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final int queueCapacity,
       final int maxBatchSize,
       final int minBatchSizeToSplit,
-      final boolean strictThreadLimitEnabled) {
+      final boolean strictThreadLimitEnabled,
+      final TimeProvider timeProvider,
+      final Duration maxDroppableTaskWait) {
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
     this.maxBatchSize = maxBatchSize;
-
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.queueCapacity = queueCapacity;
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
+    this.timeProvider = timeProvider;
+    this.maxDroppableTaskWaitMillis = UInt64.valueOf(maxDroppableTaskWait.toMillis());
+    for (SignatureVerificationPriority priority : SignatureVerificationPriority.values()) {
+      tasksByPriority.put(priority, new ArrayDeque<>());
+      verifiersByPriority.put(priority, new PrioritizedVerifier(priority));
+    }
     metricsSystem.createGauge(
         TekuMetricCategory.EXECUTOR,
         "signature_verifications_queue_size",
@@ -96,6 +129,20 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             "Histogram of signature verification batch sizes",
             3,
             List.of());
+    queueWaitHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.EXECUTOR,
+            metricsSystem,
+            "signature_verifications_queue_wait_time",
+            "Histogram of time in milliseconds signatures waited to be batch verified",
+            3,
+            List.of("priority"));
+    expiredTaskCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_expired_count_total",
+            "Reports the number of verification tasks dropped after waiting too long in the queue",
+            "priority");
   }
 
   public AggregatingSignatureVerificationService(
@@ -117,6 +164,28 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         strictThreadLimitEnabled);
   }
 
+  public AggregatingSignatureVerificationService(
+      final MetricsSystem metricsSystem,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final AsyncRunner completionRunner,
+      final int maxThreads,
+      final int queueCapacity,
+      final int maxBatchSize,
+      final int minBatchSizeToSplit,
+      final boolean strictThreadLimitEnabled) {
+    this(
+        metricsSystem,
+        asyncRunnerFactory,
+        completionRunner,
+        maxThreads,
+        queueCapacity,
+        maxBatchSize,
+        minBatchSizeToSplit,
+        strictThreadLimitEnabled,
+        new SystemTimeProvider(),
+        DEFAULT_MAX_DROPPABLE_TASK_WAIT);
+  }
+
   @Override
   protected SafeFuture<?> doStart() {
     for (int i = 0; i < numThreads; i++) {
@@ -136,6 +205,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public AsyncBLSSignatureVerifier withPriority(final SignatureVerificationPriority priority) {
+    return verifiersByPriority.get(priority);
+  }
+
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
@@ -147,14 +221,37 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return enqueue(SignatureVerificationPriority.DEFAULT, publicKeys, messages, signatures);
+  }
+
+  private SafeFuture<Boolean> enqueue(
+      final SignatureVerificationPriority priority,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
-      // Queue is full
-      final Throwable error =
-          new ServiceCapacityExceededException("Failed to process signature, queue is full.");
-      task.result.completeExceptionally(error);
+        new SignatureTask(
+            completionRunner,
+            priority,
+            timeProvider.getTimeInMillis(),
+            publicKeys,
+            messages,
+            signatures);
+    queueLock.lock();
+    try {
+      if (queuedTasks >= queueCapacity) {
+        // Queue is full
+        final Throwable error =
+            new ServiceCapacityExceededException("Failed to process signature, queue is full.");
+        task.result.completeExceptionally(error);
+        return task.result;
+      }
+      tasksByPriority.get(priority).add(task);
+      queuedTasks++;
+      tasksAvailable.signal();
+    } finally {
+      queueLock.unlock();
     }
     return task.result;
   }
@@ -168,22 +265,75 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     }
   }
 
-  private List<SignatureTask> waitForBatch() {
-    final List<SignatureTask> tasks = new ArrayList<>();
+  @VisibleForTesting
+  List<SignatureTask> waitForBatch() {
+    final List<SignatureTask> polledTasks = new ArrayList<>();
+    queueLock.lock();
     try {
-      int batchSize = maxBatchSize;
-      final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
-      if (firstTask != null) {
-        tasks.add(firstTask);
-        batchSize -= 1;
+      long remainingNanos = TimeUnit.SECONDS.toNanos(30);
+      while (queuedTasks == 0) {
+        if (remainingNanos <= 0) {
+          return polledTasks;
+        }
+        remainingNanos = tasksAvailable.awaitNanos(remainingNanos);
+      }
+      // Share the backlog between the verification threads so a shallow queue is verified with
+      // low latency in parallel, while a deep queue still gets the full amortisation of batching
+      final int batchSize =
+          Math.max(1, Math.min(maxBatchSize, (queuedTasks + numThreads - 1) / numThreads));
+      while (polledTasks.size() < batchSize && queuedTasks > 0) {
+        polledTasks.add(pollHighestPriorityTask());
       }
-      batchSignatureTasks.drainTo(tasks, batchSize);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
+    } finally {
+      queueLock.unlock();
     }
+    final UInt64 now = timeProvider.getTimeInMillis();
+    final List<SignatureTask> tasks = new ArrayList<>(polledTasks.size());
+    polledTasks.forEach(task -> addIfNotExpired(tasks, task, now));
     return tasks;
   }
 
+  // Must be called while holding queueLock with at least one task queued
+  private SignatureTask pollHighestPriorityTask() {
+    for (Queue<SignatureTask> queue : tasksByPriority.values()) {
+      final SignatureTask task = queue.poll();
+      if (task != null) {
+        queuedTasks--;
+        return task;
+      }
+    }
+    throw new IllegalStateException("No signature task queued");
+  }
+
+  private void addIfNotExpired(
+      final List<SignatureTask> tasks, final SignatureTask task, final UInt64 now) {
+    final String priorityLabel = task.priority.getMetricLabel();
+    final UInt64 waitTimeMillis = now.minusMinZero(task.queuedAtMillis);
+    queueWaitHistogram.recordValue(waitTimeMillis.longValue(), priorityLabel);
+    if (task.priority.isDroppable() && waitTimeMillis.isGreaterThan(maxDroppableTaskWaitMillis)) {
+      expiredTaskCounter.labels(priorityLabel).inc();
+      task.result.completeExceptionally(
+          new ServiceCapacityExceededException(
+              "Failed to process signature, it waited too long to be verified."));
+      return;
+    }
+    tasks.add(task);
+  }
+
+  @VisibleForTesting
+  void drainQueuedTasks(final Collection<SignatureTask> target) {
+    queueLock.lock();
+    try {
+      while (queuedTasks > 0) {
+        target.add(pollHighestPriorityTask());
+      }
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
   @VisibleForTesting
   void batchVerifySignatures(final List<SignatureTask> tasks) {
     batchCounter.inc();
@@ -233,23 +383,57 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   }
 
   private double getQueueSize() {
-    return batchSignatureTasks.size();
+    queueLock.lock();
+    try {
+      return queuedTasks;
+    } finally {
+      queueLock.unlock();
+    }
+  }
+
+  private class PrioritizedVerifier implements AsyncBLSSignatureVerifier {
+    private final SignatureVerificationPriority priority;
+
+    private PrioritizedVerifier(final SignatureVerificationPriority priority) {
+      this.priority = priority;
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      return enqueue(
+          priority, singletonList(publicKeys), singletonList(message), singletonList(signature));
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      return enqueue(priority, publicKeys, messages, signatures);
+    }
   }
 
   @VisibleForTesting
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    final SignatureVerificationPriority priority;
+    final UInt64 queuedAtMillis;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final SignatureVerificationPriority priority,
+        final UInt64 queuedAtMillis,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.priority = priority;
+      this.queuedAtMillis = queuedAtMillis;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
@@ -0,0 +1,36 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/** Exposes the statistics kept by the process-wide BLS implementation as metrics. */
+public class BlsMetrics {
+
+  private BlsMetrics() {}
+
+  public static void register(final MetricsSystem metricsSystem) {
+    final LabelledSuppliedMetric signatureCacheCounter =
+        metricsSystem.createLabelledSuppliedCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_deserialization_cache_total",
+            "Reports decompressed signature lookups by whether the signature was already cached",
+            "result");
+    signatureCacheCounter.labels(BLS::getSignatureCacheHitCount, "hit");
+    signatureCacheCounter.labels(BLS::getSignatureCacheMissCount, "miss");
+  }
+}
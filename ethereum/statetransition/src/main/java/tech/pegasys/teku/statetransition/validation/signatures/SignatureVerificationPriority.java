@@ -0,0 +1,45 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import java.util.Locale;
+
+/**
+ * Scheduling class for signatures submitted to a {@link SignatureVerificationService}, ordered from
+ * the most to the least important. Droppable classes are only useful for a limited time after they
+ * are received, so they are discarded rather than verified once they have waited too long.
+ */
+public enum SignatureVerificationPriority {
+  AGGREGATE(false),
+  SYNC_CONTRIBUTION(false),
+  DEFAULT(false),
+  SYNC_COMMITTEE_MESSAGE(true),
+  ATTESTATION(true);
+
+  private final boolean droppable;
+  private final String metricLabel;
+
+  SignatureVerificationPriority(final boolean droppable) {
+    this.droppable = droppable;
+    this.metricLabel = name().toLowerCase(Locale.ROOT);
+  }
+
+  public boolean isDroppable() {
+    return droppable;
+  }
+
+  public String getMetricLabel() {
+    return metricLabel;
+  }
+}
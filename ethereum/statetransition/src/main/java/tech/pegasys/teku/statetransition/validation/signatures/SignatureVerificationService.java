@@ -17,4 +17,13 @@ import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public abstract class SignatureVerificationService extends Service
-    implements AsyncBLSSignatureVerifier {}
+    implements AsyncBLSSignatureVerifier {
+
+  /**
+   * Returns a verifier which submits signatures to this service with the given priority. Signatures
+   * verified directly through this service use {@link SignatureVerificationPriority#DEFAULT}.
+   */
+  public AsyncBLSSignatureVerifier withPriority(final SignatureVerificationPriority priority) {
+    return this;
+  }
+}
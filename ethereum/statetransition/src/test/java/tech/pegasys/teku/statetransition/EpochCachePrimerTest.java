@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -48,9 +51,10 @@ class EpochCachePrimerTest {
   private final BeaconStateUtil beaconStateUtil = mock(BeaconStateUtil.class);
   private final RecentChainData recentChainData = storageSystem.recentChainData();
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   private final EpochCachePrimer primer =
-      new EpochCachePrimer(mockSpec, recentChainData, asyncRunner);
+      new EpochCachePrimer(mockSpec, recentChainData, asyncRunner, metricsSystem);
 
   @BeforeEach
   void setUp() {
@@ -169,6 +173,66 @@ class EpochCachePrimerTest {
     verify(beaconStateUtil).getEffectiveActiveUnslashedBalances(justifiedState);
   }
 
+  @Test
+  void shouldRecomputeWhenHeadChangesBeforeEpochBoundary() {
+    final UInt64 epoch = UInt64.ONE;
+
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    final SignedBlockAndState newHead = storageSystem.chainUpdater().advanceChain(7);
+    storageSystem.chainUpdater().updateBestBlock(newHead);
+    notifyChainHeadUpdated(newHead);
+    asyncRunner.executeQueuedActions();
+
+    final BeaconState state = getStateForEpoch(epoch);
+    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+    assertThat(getPrecomputeCount("recomputed")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCountRecomputationWhenHeadHasAlreadyReachedEpoch() {
+    primer.primeCacheForEpoch(UInt64.ONE);
+    asyncRunner.executeQueuedActions();
+
+    final SignedBlockAndState staleHead = storageSystem.chainUpdater().advanceChain(7);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(9));
+    notifyChainHeadUpdated(staleHead);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    assertThat(getPrecomputeCount("recomputed")).isZero();
+  }
+
+  @Test
+  void shouldReportHitWhenFirstBlockOfEpochBuildsOnPrecomputedHead() {
+    primer.primeCacheForEpoch(UInt64.ONE);
+    asyncRunner.executeQueuedActions();
+
+    final SignedBlockAndState newHead = storageSystem.chainUpdater().advanceChain(8);
+    storageSystem.chainUpdater().updateBestBlock(newHead);
+    notifyChainHeadUpdated(newHead);
+
+    assertThat(getPrecomputeCount("hit")).isEqualTo(1);
+    assertThat(getPrecomputeCount("miss")).isZero();
+  }
+
+  private void notifyChainHeadUpdated(final SignedBlockAndState newHead) {
+    primer.chainHeadUpdated(
+        newHead.getSlot(),
+        newHead.getStateRoot(),
+        newHead.getRoot(),
+        false,
+        false,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        Optional.empty());
+  }
+
+  private long getPrecomputeCount(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.BEACON, "epoch_precompute_total", result);
+  }
+
   private void forEachSlotInEpoch(final UInt64 epoch, final Consumer<UInt64> action) {
     UInt64.range(
             realSpec.computeStartSlotAtEpoch(epoch),
@@ -170,6 +170,27 @@ public class MappedOperationPoolTest {
     assertThat(blockItems.get(2)).isEqualTo(remoteEntry);
   }
 
+  @Test
+  void shouldStopValidatingOperationsOnceBlockIsFull() {
+    when(validator.validateForGossip(any())).thenReturn(completedFuture(ACCEPT));
+    when(validator.validateForBlockInclusion(any(), any())).thenReturn(Optional.empty());
+    final int maxBlsToExecutionChanges =
+        spec.getGenesisSpecConfig().toVersionCapella().orElseThrow().getMaxBlsToExecutionChanges();
+    while (pool.size() < maxBlsToExecutionChanges * 2) {
+      final SignedBlsToExecutionChange remoteEntry =
+          dataStructureUtil.randomSignedBlsToExecutionChange();
+      assertThat(pool.addRemote(remoteEntry, Optional.empty())).isCompleted();
+    }
+    final SignedBlsToExecutionChange localEntry =
+        dataStructureUtil.randomSignedBlsToExecutionChange();
+    assertThat(pool.addLocal(localEntry)).isCompleted();
+
+    final SszList<SignedBlsToExecutionChange> blockItems = pool.getItemsForBlock(state);
+    assertThat(blockItems.size()).isEqualTo(maxBlsToExecutionChanges);
+    assertThat(blockItems.get(0)).isEqualTo(localEntry);
+    verify(validator, times(maxBlsToExecutionChanges)).validateForBlockInclusion(any(), any());
+  }
+
   @Test
   void getLocalEntriesReturnsOnlyLocalEntries() {
     final SignedBlsToExecutionChange localEntry = initPoolWithSingleItem();
@@ -115,6 +115,26 @@ public class SimpleOperationPoolTest {
     assertThat(pool.getItemsForBlock(state)).hasSize(maxVoluntaryExits);
   }
 
+  @Test
+  void shouldStopValidatingOperationsOnceBlockIsFull() {
+    OperationValidator<ProposerSlashing> validator = mock(OperationValidator.class);
+    OperationPool<ProposerSlashing> pool =
+        new SimpleOperationPool<>(
+            "ProposerSlashingPool",
+            metricsSystem,
+            beaconBlockSchemaSupplier.andThen(BeaconBlockBodySchema::getProposerSlashingsSchema),
+            validator);
+    when(validator.validateForGossip(any())).thenReturn(completedFuture(ACCEPT));
+    when(validator.validateForBlockInclusion(any(), any())).thenReturn(Optional.empty());
+    final int maxProposerSlashings = spec.getGenesisSpecConfig().getMaxProposerSlashings();
+    for (int i = 0; i < maxProposerSlashings * 2; i++) {
+      pool.addLocal(dataStructureUtil.randomProposerSlashing());
+    }
+
+    assertThat(pool.getItemsForBlock(state)).hasSize(maxProposerSlashings);
+    verify(validator, times(maxProposerSlashings)).validateForBlockInclusion(any(), any());
+  }
+
   @Test
   void shouldNotCountFilteredOperationsInMaxItems() {
     final Predicate<SignedVoluntaryExit> filter = mock(Predicate.class);
@@ -32,6 +32,9 @@ import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
@@ -642,6 +645,38 @@ class AggregatingAttestationPoolTest {
     assertThat(aggregatingPool.getSize()).isZero();
   }
 
+  @TestTemplate
+  void add_shouldAcceptAttestationsFromConcurrentThreads() throws Exception {
+    final List<AttestationData> attestationData =
+        IntStream.range(0, 4).mapToObj(i -> dataStructureUtil.randomAttestationData(ONE)).toList();
+    final List<ValidatableAttestation> attestations = new ArrayList<>();
+    for (final AttestationData data : attestationData) {
+      for (int validator = 0; validator < 25; validator++) {
+        attestations.add(
+            ValidatableAttestation.from(
+                spec, createAttestation(data, validator, validator + 25), committeeSizes));
+      }
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures =
+          attestations.stream()
+              .<Future<?>>map(
+                  attestation -> executor.submit(() -> aggregatingPool.add(attestation)))
+              .toList();
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(aggregatingPool.getSize()).isEqualTo(attestations.size());
+    assertThat(aggregatingPool.getAttestations(Optional.of(ONE), Optional.empty()))
+        .hasSize(attestationData.size());
+  }
+
   @TestTemplate
   void onAttestationsIncludedInBlock_shouldRemoveAttestationsWhenSeenInABlock() {
     final AttestationData attestationData = dataStructureUtil.randomAttestationData(ZERO);
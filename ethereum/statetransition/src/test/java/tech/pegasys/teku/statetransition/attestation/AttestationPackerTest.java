@@ -0,0 +1,182 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSKeyGenerator;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+
+class AttestationPackerTest {
+  private static final UInt64 ATTESTATION_SLOT = ONE;
+  private static final UInt64 BLOCK_SLOT = UInt64.valueOf(2);
+
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final ChainBuilder chainBuilder =
+      ChainBuilder.create(spec, BLSKeyGenerator.generateKeyPairs(64));
+  private final AttestationSchema<?> attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  private final AttestationPacker packer =
+      new AttestationPacker(spec, Duration.ofMillis(100), nanoTime::get);
+
+  private BeaconState stateAtBlockSlot;
+  private AttestationData attestationData;
+  private IntList committee;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    chainBuilder.generateGenesis();
+    chainBuilder.generateBlockAtSlot(ATTESTATION_SLOT);
+    attestationData =
+        chainBuilder
+            .streamValidAttestationsForBlockAtSlot(BLOCK_SLOT)
+            .map(Attestation::getData)
+            .filter(data -> data.getSlot().equals(ATTESTATION_SLOT))
+            .filter(data -> data.getIndex().equals(ZERO))
+            .findFirst()
+            .orElseThrow();
+    stateAtBlockSlot = spec.processSlots(chainBuilder.getStateAtSlot(ATTESTATION_SLOT), BLOCK_SLOT);
+    committee = spec.getBeaconCommittee(stateAtBlockSlot, ATTESTATION_SLOT, ZERO);
+  }
+
+  @Test
+  void shouldPreferAttestationWithNewRewardsOverLargerAggregate() {
+    markAsParticipating(0, 1, 2);
+    final Attestation alreadyIncluded = createAttestation(0, 1, 2);
+    final Attestation newParticipant = createAttestation(3);
+
+    assertThat(packer.pack(stateAtBlockSlot, Stream.of(alreadyIncluded, newParticipant), 1, 1))
+        .containsExactly(newParticipant);
+  }
+
+  @Test
+  void shouldSkipAttestationsCoveredByEarlierPicks() {
+    final Attestation attestation1 = createAttestation(0, 1, 2);
+    final Attestation attestation2 = createAttestation(0, 1);
+    final Attestation attestation3 = createAttestation(3);
+
+    assertThat(
+            packer.pack(
+                stateAtBlockSlot, Stream.of(attestation1, attestation2, attestation3), 2, 2))
+        .containsExactly(attestation1, attestation3);
+  }
+
+  @Test
+  void shouldFillRemainingSpaceWithAttestationsWithoutNewRewards() {
+    markAsParticipating(0, 1, 2, 3);
+    final Attestation attestation1 = createAttestation(0, 1);
+    final Attestation attestation2 = createAttestation(2, 3);
+
+    assertThat(packer.pack(stateAtBlockSlot, Stream.of(attestation1, attestation2), 2, 2))
+        .containsExactly(attestation1, attestation2);
+  }
+
+  @Test
+  void shouldFallBackToSuppliedOrderWhenTimeBudgetIsExceeded() {
+    final Attestation attestation1 = createAttestation(0, 1, 2);
+    final Attestation attestation2 = createAttestation(0, 1);
+    final Attestation attestation3 = createAttestation(3);
+    final AttestationPacker slowPacker =
+        new AttestationPacker(
+            spec,
+            Duration.ofMillis(100),
+            () -> nanoTime.getAndAdd(Duration.ofSeconds(1).toNanos()));
+
+    assertThat(
+            slowPacker.pack(
+                stateAtBlockSlot, Stream.of(attestation1, attestation2, attestation3), 2, 2))
+        .containsExactly(attestation1, attestation2);
+  }
+
+  @Test
+  void shouldOnlyPullCandidatesThatFitWhenTimeBudgetIsExceeded() {
+    final AtomicInteger pulledCandidates = new AtomicInteger();
+    final Stream<Attestation> candidates =
+        Stream.of(createAttestation(0), createAttestation(1), createAttestation(2))
+            .peek(__ -> pulledCandidates.incrementAndGet());
+    final AttestationPacker slowPacker =
+        new AttestationPacker(
+            spec,
+            Duration.ofMillis(100),
+            () -> nanoTime.getAndAdd(Duration.ofSeconds(1).toNanos()));
+
+    assertThat(slowPacker.pack(stateAtBlockSlot, candidates, 1, 1)).hasSize(1);
+    assertThat(pulledCandidates).hasValue(1);
+  }
+
+  @Test
+  void shouldPickAmongScoredCandidatesWhenTimeBudgetExpiresDuringScoring() {
+    markAsParticipating(0);
+    final Attestation noNewRewards = createAttestation(0);
+    final Attestation newRewards = createAttestation(1, 2);
+    final Attestation unscored = createAttestation(3);
+    final Stream<Attestation> candidates =
+        Stream.of(noNewRewards, newRewards, unscored)
+            .peek(
+                attestation -> {
+                  if (attestation == newRewards) {
+                    nanoTime.set(Duration.ofMillis(80).toNanos());
+                  }
+                });
+
+    assertThat(packer.pack(stateAtBlockSlot, candidates, 1, 1)).containsExactly(newRewards);
+  }
+
+  private void markAsParticipating(final int... committeePositions) {
+    stateAtBlockSlot =
+        stateAtBlockSlot.updated(
+            state -> {
+              final SszMutableList<SszByte> participation =
+                  MutableBeaconStateAltair.required(state).getCurrentEpochParticipation();
+              for (final int position : committeePositions) {
+                participation.set(
+                    committee.getInt(position),
+                    SszByte.of(
+                        ParticipationFlags.TIMELY_SOURCE_FLAG
+                            | ParticipationFlags.TIMELY_TARGET_FLAG
+                            | ParticipationFlags.TIMELY_HEAD_FLAG));
+              }
+            });
+  }
+
+  private Attestation createAttestation(final int... committeePositions) {
+    return attestationSchema.create(
+        attestationSchema.getAggregationBitsSchema().ofBits(committee.size(), committeePositions),
+        attestationData,
+        BLSSignature.empty());
+  }
+}
@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -46,6 +47,7 @@ class MatchingDataAttestationGroupTest {
 
   private AttestationData attestationData;
 
+  private final StubCounter avoidedSignatureAdditions = new StubCounter();
   private MatchingDataAttestationGroup group;
   private Int2IntMap committeeSizes;
 
@@ -58,7 +60,9 @@ class MatchingDataAttestationGroupTest {
     committeeSizes = new Int2IntOpenHashMap();
     committeeSizes.put(0, 10);
     committeeSizes.put(1, 10);
-    group = new MatchingDataAttestationGroup(spec, attestationData, Optional.of(committeeSizes));
+    group =
+        new MatchingDataAttestationGroup(
+            spec, attestationData, Optional.of(committeeSizes), avoidedSignatureAdditions.labels());
   }
 
   @TestTemplate
@@ -236,6 +240,83 @@ class MatchingDataAttestationGroupTest {
                 spec, aggregateAttestations(useful1.getAttestation(), useful2.getAttestation())));
   }
 
+  @TestTemplate
+  void iterator_shouldReuseAggregatesFromPreviousIteration() {
+    final ValidatableAttestation attestation1 = addAttestation(1, 2);
+    final ValidatableAttestation attestation2 = addAttestation(3, 4);
+    final ValidatableAttestation expected =
+        ValidatableAttestation.from(
+            spec,
+            aggregateAttestations(attestation1.getAttestation(), attestation2.getAttestation()));
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).containsExactly(expected);
+    assertThat(avoidedSignatureAdditions.getValue()).isZero();
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).containsExactly(expected);
+    assertThat(avoidedSignatureAdditions.getValue()).isEqualTo(1);
+  }
+
+  @TestTemplate
+  void add_shouldMergeNewAttestationIntoPreviousAggregates() {
+    final ValidatableAttestation attestation1 = addAttestation(1, 2);
+    final ValidatableAttestation attestation2 = addAttestation(3, 4);
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).hasSize(1);
+
+    final ValidatableAttestation attestation3 = addAttestation(5, 6);
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO)))
+        .containsExactly(
+            ValidatableAttestation.from(
+                spec,
+                aggregateAttestations(
+                    attestation1.getAttestation(),
+                    attestation2.getAttestation(),
+                    attestation3.getAttestation())));
+    // Rebuilding the aggregate would have taken two additions, only one was needed for the merge
+    assertThat(avoidedSignatureAdditions.getValue()).isEqualTo(2);
+  }
+
+  @TestTemplate
+  void add_shouldKeepLargestAggregateFirstAfterMerge() {
+    final ValidatableAttestation attestation1 = addAttestation(1, 2, 3, 4);
+    final ValidatableAttestation attestation2 = addAttestation(1, 5);
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).containsExactly(attestation1, attestation2);
+
+    // Overlaps the first aggregate, so it is merged into the second which becomes the largest
+    final ValidatableAttestation attestation3 = addAttestation(2, 6, 7, 8);
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO)))
+        .containsExactly(
+            ValidatableAttestation.from(
+                spec,
+                aggregateAttestations(
+                    attestation2.getAttestation(), attestation3.getAttestation())),
+            attestation1);
+  }
+
+  @TestTemplate
+  void add_shouldRebuildAggregatesWhenNewAttestationCanNotBeMerged() {
+    final ValidatableAttestation attestation1 = addAttestation(1, 2);
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).containsExactly(attestation1);
+
+    final ValidatableAttestation attestation2 = addAttestation(2, 3, 4);
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO)))
+        .containsExactly(attestation2, attestation1);
+    assertThat(avoidedSignatureAdditions.getValue()).isZero();
+  }
+
+  @TestTemplate
+  void onAttestationIncludedInBlock_shouldInvalidatePreviousAggregates() {
+    addAttestation(1, 2);
+    final ValidatableAttestation attestation2 = addAttestation(3, 4);
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).hasSize(1);
+
+    group.onAttestationIncludedInBlock(UInt64.ZERO, createAttestation(1, 2).getAttestation());
+
+    assertThat(group.stream(Optional.of(UInt64.ZERO))).containsExactly(attestation2);
+  }
+
   @TestTemplate
   void onAttestationIncludedInBlock_shouldRemoveAttestationsMadeRedundant() {
     final ValidatableAttestation attestation1 = addAttestation(1, 2, 3, 4);
@@ -16,6 +16,8 @@ package tech.pegasys.teku.statetransition.blobs;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.kzg.KZG;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
@@ -70,6 +73,8 @@ public class BlobSidecarManagerTest {
   private final UnpooledBlockBlobSidecarsTrackerProvider unpooledBlockBlobSidecarsTrackerProvider =
       mock(UnpooledBlockBlobSidecarsTrackerProvider.class);
 
+  private final KZG kzg = mock(KZG.class);
+
   private final BlobSidecarManagerImpl blobSidecarManager =
       new BlobSidecarManagerImpl(
           spec,
@@ -78,6 +83,7 @@ public class BlobSidecarManagerTest {
           blobSidecarValidator,
           futureBlobSidecars,
           invalidBlobSidecarRoots,
+          kzg,
           forkChoiceBlobSidecarsAvailabilityCheckerProvider,
           unpooledBlockBlobSidecarsTrackerProvider);
 
@@ -361,4 +367,43 @@ public class BlobSidecarManagerTest {
 
     verifyNoInteractions(blockBlobSidecarsTrackersPool);
   }
+
+  @Test
+  void preValidateKzgProofs_shouldVerifyAllBlocksInOneBatch() {
+    final List<BlobSidecar> block1BlobSidecars =
+        List.of(dataStructureUtil.randomBlobSidecar(), dataStructureUtil.randomBlobSidecar());
+    final List<BlobSidecar> block2BlobSidecars = List.of(dataStructureUtil.randomBlobSidecar());
+    when(kzg.verifyBlobKzgProofBatch(anyList(), anyList(), anyList())).thenReturn(true);
+
+    blobSidecarManager.preValidateKzgProofs(
+        List.of(block1BlobSidecars, List.of(), block2BlobSidecars));
+
+    verify(kzg).verifyBlobKzgProofBatch(argThat(blobs -> blobs.size() == 3), anyList(), anyList());
+    assertThat(block1BlobSidecars).allMatch(BlobSidecar::isKzgValidated);
+    assertThat(block2BlobSidecars).allMatch(BlobSidecar::isKzgValidated);
+  }
+
+  @Test
+  void preValidateKzgProofs_shouldBisectToFindInvalidBlock() {
+    final List<List<BlobSidecar>> blobSidecarsByBlock =
+        List.of(
+            List.of(dataStructureUtil.randomBlobSidecar()),
+            List.of(dataStructureUtil.randomBlobSidecar()),
+            List.of(dataStructureUtil.randomBlobSidecar()),
+            List.of(dataStructureUtil.randomBlobSidecar()));
+    final BlobSidecar invalidBlobSidecar = blobSidecarsByBlock.get(2).getFirst();
+    when(kzg.verifyBlobKzgProofBatch(anyList(), anyList(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              final List<?> blobs = invocation.getArgument(0);
+              return !blobs.contains(invalidBlobSidecar.getBlob().getBytes());
+            });
+
+    blobSidecarManager.preValidateKzgProofs(blobSidecarsByBlock);
+
+    assertThat(invalidBlobSidecar.isKzgValidated()).isFalse();
+    assertThat(blobSidecarsByBlock.get(0).getFirst().isKzgValidated()).isTrue();
+    assertThat(blobSidecarsByBlock.get(1).getFirst().isKzgValidated()).isTrue();
+    assertThat(blobSidecarsByBlock.get(3).getFirst().isKzgValidated()).isTrue();
+  }
 }
@@ -41,6 +41,7 @@ import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.EXE
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.GOSSIP_VALIDATION_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.PRESTATE_RETRIEVED_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.PROCESSED_EVENT_LABEL;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.SIGNATURES_VERIFIED_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.TRANSACTION_COMMITTED_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.TRANSACTION_PREPARED_EVENT_LABEL;
 import static tech.pegasys.teku.statetransition.validation.BlockBroadcastValidator.BroadcastValidationResult.SUCCESS;
@@ -803,6 +804,8 @@ public class BlockManagerTest {
                 + " +3000ms, "
                 + PROCESSED_EVENT_LABEL
                 + " +0ms, "
+                + SIGNATURES_VERIFIED_LABEL
+                + " +0ms, "
                 + DATA_AVAILABILITY_CHECKED_LABEL
                 + " +0ms, "
                 + EXECUTION_PAYLOAD_RESULT_RECEIVED_LABEL
@@ -56,7 +56,9 @@ import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -67,6 +69,7 @@ import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -306,7 +309,7 @@ class ForkChoiceTest {
     final BlockProcessor blockProcessor = mock(BlockProcessor.class);
     when(spec.getBlockProcessor(blockAndState.getSlot())).thenReturn(blockProcessor);
     final Exception blockException = new StateTransitionException("error!");
-    when(blockProcessor.processAndValidateBlock(any(), any(), any(), any()))
+    when(blockProcessor.processAndValidateBlock(any(), any(), any(), any(), any()))
         .thenThrow(blockException);
 
     importBlockAndAssertFailure(blockAndState, FailureReason.FAILED_STATE_TRANSITION);
@@ -319,6 +322,75 @@ class ForkChoiceTest {
     verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
   }
 
+  @Test
+  void onBlock_shouldWaitForAsyncSignatureVerificationBeforeImporting() {
+    setupWithSpec(TestSpecFactory.createMinimalDeneb());
+    final StubAsyncRunner signatureVerificationAsyncRunner = new StubAsyncRunner();
+    setupWithSignatureVerificationAsyncRunner(signatureVerificationAsyncRunner);
+    final SignedBlockAndState blockAndState = chainBuilder.generateBlockAtSlot(ONE);
+
+    final SafeFuture<BlockImportResult> importResult = importBlockNoResultCheck(blockAndState);
+
+    assertThatSafeFuture(importResult).isNotDone();
+    verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
+
+    signatureVerificationAsyncRunner.executeQueuedActions();
+
+    assertBlockImportedSuccessfully(importResult, false);
+    verify(blockBroadcastValidator).onConsensusValidationSucceeded();
+  }
+
+  @Test
+  void onBlock_shouldRejectBlockWhenAsyncSignatureVerificationFailsAndBlobsAreAvailable() {
+    setupWithSpec(TestSpecFactory.createMinimalDeneb());
+    final StubAsyncRunner signatureVerificationAsyncRunner = new StubAsyncRunner();
+    setupWithSignatureVerificationAsyncRunner(signatureVerificationAsyncRunner);
+    final SignedBlockAndState validBlockAndState = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBeaconBlock invalidSignatureBlock =
+        SignedBeaconBlock.create(
+            spec, validBlockAndState.getBlock().getMessage(), dataStructureUtil.randomSignature());
+
+    final SafeFuture<BlockImportResult> importResult =
+        importBlockNoResultCheck(
+            new SignedBlockAndState(invalidSignatureBlock, validBlockAndState.getState()));
+    assertThatSafeFuture(importResult).isNotDone();
+
+    signatureVerificationAsyncRunner.executeQueuedActions();
+
+    assertBlockImportFailure(importResult, FailureReason.FAILED_STATE_TRANSITION);
+    verify(blobSidecarsAvailabilityChecker).getAvailabilityCheckResult();
+    verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
+    verify(debugDataDumper)
+        .saveInvalidBlock(
+            eq(invalidSignatureBlock), eq(FailureReason.FAILED_STATE_TRANSITION.toString()), any());
+    assertThat(recentChainData.getStore().containsBlock(invalidSignatureBlock.getRoot())).isFalse();
+  }
+
+  @Test
+  void onBlock_shouldRejectBlockWhenDataAvailabilityFailsAfterSignaturesAreVerified() {
+    setupWithSpec(TestSpecFactory.createMinimalDeneb());
+    final StubAsyncRunner signatureVerificationAsyncRunner = new StubAsyncRunner();
+    setupWithSignatureVerificationAsyncRunner(signatureVerificationAsyncRunner);
+    final SafeFuture<BlobSidecarsAndValidationResult> availabilityCheckResult =
+        new SafeFuture<>();
+    when(blobSidecarsAvailabilityChecker.getAvailabilityCheckResult())
+        .thenReturn(availabilityCheckResult);
+    final SignedBlockAndState blockAndState = chainBuilder.generateBlockAtSlot(ONE);
+
+    final SafeFuture<BlockImportResult> importResult = importBlockNoResultCheck(blockAndState);
+
+    signatureVerificationAsyncRunner.executeQueuedActions();
+    assertThatSafeFuture(importResult).isNotDone();
+    verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
+
+    availabilityCheckResult.complete(BlobSidecarsAndValidationResult.NOT_AVAILABLE);
+
+    assertBlockImportFailure(
+        importResult, FailureReason.FAILED_DATA_AVAILABILITY_CHECK_NOT_AVAILABLE);
+    verify(blockBroadcastValidator, never()).onConsensusValidationSucceeded();
+    assertThat(recentChainData.getStore().containsBlock(blockAndState.getRoot())).isFalse();
+  }
+
   @Test
   void onBlock_consensusValidationShouldReturnRegardlessExecutionPayloadValidation() {
     setupWithSpec(TestSpecFactory.createMinimalDeneb());
@@ -1317,6 +1389,23 @@ class ForkChoiceTest {
     return updatedAttestationSlot;
   }
 
+  private void setupWithSignatureVerificationAsyncRunner(final AsyncRunner asyncRunner) {
+    forkChoice =
+        new ForkChoice(
+            spec,
+            eventThread,
+            recentChainData,
+            blobSidecarManager,
+            forkChoiceNotifier,
+            new ForkChoiceStateProvider(eventThread, recentChainData),
+            new TickProcessor(spec, recentChainData),
+            transitionBlockValidator,
+            Optional.of(asyncRunner),
+            DEFAULT_FORK_CHOICE_LATE_BLOCK_REORG_ENABLED,
+            debugDataDumper,
+            metricsSystem);
+  }
+
   private void assertBlockImportedSuccessfully(
       final SafeFuture<BlockImportResult> importResult, final boolean optimistically) {
     assertThat(importResult).isCompleted();
@@ -19,6 +19,7 @@ import static tech.pegasys.teku.statetransition.validation.InternalValidationRes
 import java.time.Duration;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
@@ -67,7 +68,8 @@ class SignedContributionAndProofValidatorTest {
             storageSystem.recentChainData(),
             syncCommitteeStateUtils,
             timeProvider,
-            new SimpleSignatureVerificationService());
+            new SimpleSignatureVerificationService(),
+            new NoOpMetricsSystem());
     return storageSystem.chainUpdater().initializeGenesis();
   }
 
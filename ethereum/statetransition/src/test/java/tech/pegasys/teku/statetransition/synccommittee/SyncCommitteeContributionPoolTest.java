@@ -153,6 +153,22 @@ class SyncCommitteeContributionPoolTest {
     assertSyncAggregateFromContribution(contribution, result);
   }
 
+  @Test
+  void shouldUpdateSyncAggregateWhenBetterContributionAddedAfterItWasCreated() {
+    final SignedContributionAndProof proof = dataStructureUtil.randomSignedContributionAndProof(25);
+    final SignedContributionAndProof initialProof = withParticipationBits(proof, 1, 3);
+    final SignedContributionAndProof bestProof = withParticipationBits(proof, 1, 2, 3);
+
+    addValidLocal(initialProof);
+    assertSyncAggregateFromContribution(
+        initialProof.getMessage().getContribution(),
+        getBlockSyncAggregateWithContribution(initialProof));
+
+    addValidLocal(bestProof);
+    assertSyncAggregateFromContribution(
+        bestProof.getMessage().getContribution(), getBlockSyncAggregateWithContribution(bestProof));
+  }
+
   @Test
   void shouldCreateSyncAggregateForForkSlot() {
     final SyncAggregate result =
@@ -164,6 +164,31 @@ class SyncCommitteeMessagePoolTest {
         .contains(createContributionFrom(subcommitteeIndex, message1, message2));
   }
 
+  @Test
+  void shouldIncludeMessagesAddedAfterContributionWasCreated() {
+    final int subcommitteeIndex = 3;
+    final ValidatableSyncCommitteeMessage message1 =
+        createMessageInSlot(dataStructureUtil.randomBytes32(), subcommitteeIndex, 2);
+    addValidLocal(message1);
+    assertThat(
+            pool.createContribution(
+                message1.getSlot(), message1.getBeaconBlockRoot(), subcommitteeIndex))
+        .contains(createContributionFrom(subcommitteeIndex, message1));
+
+    final ValidatableSyncCommitteeMessage message2 =
+        ValidatableSyncCommitteeMessage.fromValidator(
+            dataStructureUtil.randomSyncCommitteeMessage(
+                message1.getSlot(), message1.getBeaconBlockRoot()));
+    message2.setSubcommitteeAssignments(
+        SyncSubcommitteeAssignments.builder().addAssignment(subcommitteeIndex, 4).build());
+    addValidLocal(message2);
+
+    assertThat(
+            pool.createContribution(
+                message1.getSlot(), message1.getBeaconBlockRoot(), subcommitteeIndex))
+        .contains(createContributionFrom(subcommitteeIndex, message1, message2));
+  }
+
   @Test
   void shouldCreateCorrespondingContributionsForEqualMessagesFromDifferentSubnets() {
     final int subcommitteeIndex1 = 1;
@@ -21,6 +21,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -437,6 +438,64 @@ public class PendingPoolTest {
     assertThat(dependentBlocks).containsExactlyInAnyOrderElementsOf(directDescendents);
   }
 
+  @Test
+  public void getItemsDependingOn_includeIndirectShouldReturnParentsBeforeChildren() {
+    final Bytes32 commonAncestorRoot = dataStructureUtil.randomBytes32();
+    final List<SignedBeaconBlock> chain = new ArrayList<>();
+    Bytes32 parentRoot = commonAncestorRoot;
+    for (int depth = 0; depth <= futureTolerance.intValue(); depth++) {
+      final SignedBeaconBlock block =
+          dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue() + depth, parentRoot);
+      chain.add(block);
+      parentRoot = block.getRoot();
+    }
+    final SignedBeaconBlock sibling =
+        dataStructureUtil.randomSignedBeaconBlock(
+            currentSlot.longValue() + 1, chain.get(0).getRoot());
+
+    // Add in reverse so insertion order doesn't give the expected order
+    pendingPool.add(sibling);
+    chain.reversed().forEach(pendingPool::add);
+
+    final List<SignedBeaconBlock> dependentBlocks =
+        pendingPool.getItemsDependingOn(commonAncestorRoot, true);
+    assertThat(dependentBlocks).containsExactlyInAnyOrderElementsOf(concat(chain, sibling));
+    assertThat(dependentBlocks.indexOf(chain.get(0))).isZero();
+    for (int i = 1; i < chain.size(); i++) {
+      assertThat(dependentBlocks.indexOf(chain.get(i)))
+          .isGreaterThan(dependentBlocks.indexOf(chain.get(i - 1)));
+    }
+  }
+
+  @Test
+  public void remove_shouldCountRemovalsByReason() {
+    final SignedBeaconBlock removed = dataStructureUtil.randomSignedBeaconBlock(currentSlot);
+    pendingPool.add(removed);
+    pendingPool.remove(removed);
+    // Removing an unknown item isn't counted
+    pendingPool.remove(removed);
+
+    for (int i = 0; i < maxItems + 1; i++) {
+      pendingPool.add(dataStructureUtil.randomSignedBeaconBlock(currentSlot));
+    }
+
+    assertThat(getRemovedItemsCount("removed")).isEqualTo(1);
+    assertThat(getRemovedItemsCount("capacity")).isEqualTo(1);
+    assertThat(getRemovedItemsCount("pruned")).isZero();
+  }
+
+  private long getRemovedItemsCount(final String reason) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.BEACON, "pending_pool_removed_items_total", "blocks", reason);
+  }
+
+  private static List<SignedBeaconBlock> concat(
+      final List<SignedBeaconBlock> blocks, final SignedBeaconBlock block) {
+    final List<SignedBeaconBlock> result = new ArrayList<>(blocks);
+    result.add(block);
+    return result;
+  }
+
   @Test
   public void prune_finalizedBlocks() {
     final SignedBeaconBlock finalizedBlock = dataStructureUtil.randomSignedBeaconBlock(10);
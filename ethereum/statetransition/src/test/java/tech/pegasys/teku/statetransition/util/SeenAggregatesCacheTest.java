@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
@@ -28,7 +29,8 @@ class SeenAggregatesCacheTest {
   private final Spec spec = TestSpecFactory.createDefault();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
   private final SszBitlistSchema<SszBitlist> bitlistSchema = SszBitlistSchema.create(10);
-  private final SeenAggregatesCache<Bytes32> cache = new SeenAggregatesCache<>(3);
+  private final SeenAggregatesCache<Bytes32> cache =
+      new SeenAggregatesCache<>(new NoOpMetricsSystem(), "test", 3);
 
   @Test
   void isAlreadySeen_shouldBeTrueWhenValueIsEqual() {
@@ -113,6 +115,40 @@ class SeenAggregatesCacheTest {
     assertThat(cache.add(root, bitlist(true, true, false, false))).isTrue();
   }
 
+  @Test
+  void isAlreadySeen_shouldBeTrueForSubsetOfSupersetThatReplacedValue() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cache.add(root, bitlist(true, false, false, false))).isTrue();
+    // Superset replaces the previously seen value
+    assertThat(cache.add(root, bitlist(true, true, false, false))).isTrue();
+
+    assertThat(cache.isAlreadySeen(root, bitlist(true, false, false, false))).isTrue();
+    assertThat(cache.isAlreadySeen(root, bitlist(false, true, false, false))).isTrue();
+    assertThat(cache.add(root, bitlist(false, false, true, false))).isTrue();
+  }
+
+  @Test
+  void isAlreadySeen_shouldHandleBitsSpanningMultipleWords() {
+    final SszBitlistSchema<SszBitlist> largeSchema = SszBitlistSchema.create(200);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cache.add(root, largeSchema.ofBits(200, 1, 70, 150))).isTrue();
+
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(200, 70, 150))).isTrue();
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(200, 1))).isTrue();
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(200, 150, 199))).isFalse();
+  }
+
+  @Test
+  void isAlreadySeen_shouldBeFalseAfterRootIsEvicted() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cache.add(root, bitlist(true, false, true, false))).isTrue();
+    for (int i = 0; i < 10; i++) {
+      cache.add(dataStructureUtil.randomBytes32(), bitlist(true, false, false, false));
+    }
+
+    assertThat(cache.isAlreadySeen(root, bitlist(true, false, true, false))).isFalse();
+  }
+
   private SszBitlist bitlist(final Boolean... values) {
     return bitlistSchema.of(values);
   }
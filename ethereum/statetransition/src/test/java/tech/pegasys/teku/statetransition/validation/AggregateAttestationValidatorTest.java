@@ -32,6 +32,7 @@ import java.util.OptionalInt;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.ArrayUtils;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -164,7 +165,9 @@ class AggregateAttestationValidatorTest {
     final AsyncBLSSignatureVerifier signatureVerifier =
         AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE);
 
-    validator = new AggregateAttestationValidator(spec, attestationValidator, signatureVerifier);
+    validator =
+        new AggregateAttestationValidator(
+            spec, attestationValidator, signatureVerifier, new NoOpMetricsSystem());
 
     genesis = chainUpdater.initializeGenesis(false);
     bestBlock = chainUpdater.addNewBestBlock();
@@ -173,7 +176,10 @@ class AggregateAttestationValidatorTest {
   private void disableSignatureVerification() {
     validator =
         new AggregateAttestationValidator(
-            spec, attestationValidator, AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.NO_OP));
+            spec,
+            attestationValidator,
+            AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.NO_OP),
+            new NoOpMetricsSystem());
   }
 
   @TestTemplate
@@ -14,6 +14,10 @@
 package tech.pegasys.teku.statetransition.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 
@@ -34,10 +38,12 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.ChainHead;
 import tech.pegasys.teku.storage.client.ChainUpdater;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
@@ -178,6 +184,38 @@ class AttestationStateSelectorTest {
     assertThatSafeFuture(resultWithNoCache).isCompletedWithEmptyOptional();
   }
 
+  @Test
+  void shouldShareInFlightSelectionForAttestationsWithSameBlockAndTarget() {
+    final RecentChainData mockChainData = mock(RecentChainData.class);
+    final ChainHead chainHead = mock(ChainHead.class);
+    final SafeFuture<BeaconState> headState = new SafeFuture<>();
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final Checkpoint target = new Checkpoint(UInt64.ZERO, blockRoot);
+    when(mockChainData.getChainHead()).thenReturn(Optional.of(chainHead));
+    when(chainHead.getRoot()).thenReturn(blockRoot);
+    when(chainHead.getState()).thenReturn(headState);
+    final AttestationStateSelector mockedSelector =
+        new AttestationStateSelector(spec, mockChainData, metricsSystem);
+
+    final SafeFuture<Optional<BeaconState>> result1 =
+        mockedSelector.getStateToValidate(
+            new AttestationData(UInt64.ONE, UInt64.ZERO, blockRoot, target, target));
+    final SafeFuture<Optional<BeaconState>> result2 =
+        mockedSelector.getStateToValidate(
+            new AttestationData(UInt64.valueOf(2), UInt64.ONE, blockRoot, target, target));
+    verify(chainHead, times(1)).getState();
+
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.ONE);
+    headState.complete(state);
+    assertThatSafeFuture(result1).isCompletedWithOptionalContaining(state);
+    assertThatSafeFuture(result2).isCompletedWithOptionalContaining(state);
+
+    // Once complete, later attestations select a state again
+    mockedSelector.getStateToValidate(
+        new AttestationData(UInt64.ONE, UInt64.ZERO, blockRoot, target, target));
+    verify(chainHead, times(2)).getState();
+  }
+
   private SafeFuture<Optional<BeaconState>> selectStateFor(
       final UInt64 attestationSlot, final Bytes32 blockRoot) {
     final AttestationData attestationData = attestationFor(attestationSlot, blockRoot);
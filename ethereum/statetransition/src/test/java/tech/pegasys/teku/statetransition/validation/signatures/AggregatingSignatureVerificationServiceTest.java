@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -40,6 +41,9 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
 
@@ -51,19 +55,24 @@ public class AggregatingSignatureVerificationServiceTest {
   private final int minBatchSizeToSplit = 5;
   private final int numThreads = 2;
   private final boolean strictThreadLimitEnabled = true;
+  private final Duration maxDroppableTaskWait = Duration.ofSeconds(12);
   private final StubAsyncRunner completionRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
   private AggregatingSignatureVerificationService service =
       new AggregatingSignatureVerificationService(
-          new StubMetricsSystem(),
+          metricsSystem,
           asyncRunnerFactory,
           completionRunner,
           numThreads,
           queueCapacity,
           batchSize,
           minBatchSizeToSplit,
-          strictThreadLimitEnabled);
+          strictThreadLimitEnabled,
+          timeProvider,
+          maxDroppableTaskWait);
 
   @Test
   public void start_shouldQueueTasks() {
@@ -252,7 +261,9 @@ public class AggregatingSignatureVerificationServiceTest {
             queueCapacity,
             batchSize,
             minBatchSizeToSplit,
-            strictThreadLimitEnabled);
+            strictThreadLimitEnabled,
+            new SystemTimeProvider(),
+            maxDroppableTaskWait);
     startService();
 
     final Random random = new Random(1);
@@ -278,6 +289,72 @@ public class AggregatingSignatureVerificationServiceTest {
     }
   }
 
+  @SuppressWarnings("FutureReturnValueIgnored")
+  @Test
+  public void verify_shouldDequeueHigherPriorityTasksFirst() {
+    startService();
+
+    executeVerify(SignatureVerificationPriority.ATTESTATION, 0, 0);
+    executeVerify(SignatureVerificationPriority.SYNC_CONTRIBUTION, 1, 1);
+    executeValidVerify(2, 2);
+    executeVerify(SignatureVerificationPriority.AGGREGATE, 3, 3);
+
+    assertThat(getPendingTasks())
+        .extracting(task -> task.priority)
+        .containsExactly(
+            SignatureVerificationPriority.AGGREGATE,
+            SignatureVerificationPriority.SYNC_CONTRIBUTION,
+            SignatureVerificationPriority.DEFAULT,
+            SignatureVerificationPriority.ATTESTATION);
+  }
+
+  @Test
+  public void verify_shouldDropDroppableTasksWhichWaitedTooLong() {
+    startService();
+
+    final SafeFuture<Boolean> attestation =
+        executeVerify(SignatureVerificationPriority.ATTESTATION, 0, 0);
+    timeProvider.advanceTimeBy(maxDroppableTaskWait.plusMillis(1));
+
+    assertThat(service.waitForBatch()).isEmpty();
+    assertThatThrownBy(attestation::get)
+        .hasCauseInstanceOf(ServiceCapacityExceededException.class);
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.EXECUTOR,
+                "signature_verifications_expired_count_total",
+                "attestation"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void verify_shouldNotDropAggregatesWhichWaitedTooLong() {
+    startService();
+
+    final SafeFuture<Boolean> aggregate =
+        executeVerify(SignatureVerificationPriority.AGGREGATE, 0, 0);
+    timeProvider.advanceTimeBy(maxDroppableTaskWait.plusMillis(1));
+
+    final List<SignatureTask> batch = service.waitForBatch();
+    assertThat(batch).hasSize(1);
+    service.batchVerifySignatures(batch);
+    completionRunner.executeQueuedActions();
+
+    assertThat(aggregate).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void waitForBatch_shouldWakeUpWhenTaskIsEnqueued() throws Exception {
+    startService();
+
+    final CompletableFuture<List<SignatureTask>> batch =
+        CompletableFuture.supplyAsync(service::waitForBatch);
+    final SafeFuture<Boolean> result = executeValidVerify(0, 0);
+
+    assertThat(Waiter.waitFor(batch, Duration.ofSeconds(5))).hasSize(1);
+    assertThat(result).isNotDone();
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   @Test
   public void splitTasks_evenNumber() {
@@ -373,6 +450,15 @@ public class AggregatingSignatureVerificationServiceTest {
     return service.verify(keypair.getPublicKey(), message, signature);
   }
 
+  private SafeFuture<Boolean> executeVerify(
+      final SignatureVerificationPriority priority, final int keypairIndex, final int data) {
+    final BLSKeyPair keypair = KEYS.get(keypairIndex);
+    final Bytes message = Bytes.of(data);
+    return service
+        .withPriority(priority)
+        .verify(keypair.getPublicKey(), message, BLS.sign(keypair.getSecretKey(), message));
+  }
+
   private SafeFuture<Boolean> executeListVerify(
       final IntList keyIndices, final IntList data, final BooleanList useValidSignatures) {
     final List<List<BLSPublicKey>> publicKeys = new ArrayList<>();
@@ -398,7 +484,7 @@ public class AggregatingSignatureVerificationServiceTest {
 
   private List<SignatureTask> getPendingTasks() {
     final List<SignatureTask> pendingTasks = new ArrayList<>();
-    service.batchSignatureTasks.drainTo(pendingTasks);
+    service.drainQueuedTasks(pendingTasks);
     return pendingTasks;
   }
 
@@ -450,6 +450,16 @@ public class BLS {
     return signature.getSignature().verify(publicKey.getPublicKey(), message, dst);
   }
 
+  /** Returns the number of signatures which were deserialized from the signature cache. */
+  public static long getSignatureCacheHitCount() {
+    return getBlsImpl().getSignatureCacheHitCount();
+  }
+
+  /** Returns the number of signatures which had to be decompressed during deserialization. */
+  public static long getSignatureCacheMissCount() {
+    return getBlsImpl().getSignatureCacheMissCount();
+  }
+
   static BLS12381 getBlsImpl() {
     return blsImpl;
   }
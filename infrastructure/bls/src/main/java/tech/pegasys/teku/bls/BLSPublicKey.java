@@ -54,6 +54,24 @@ public final class BLSPublicKey {
             .aggregatePublicKeys(publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
   }
 
+  /**
+   * Removes a list of PublicKeys from an aggregate, returns the public key that corresponds to G1
+   * point at infinity if the aggregate or any of the public keys is infinity or not a G1 group
+   * member.
+   *
+   * @param aggregate The aggregate which the public keys were previously added to
+   * @param publicKeys The list of public keys to remove
+   * @return PublicKey The aggregate of the remaining public keys
+   */
+  public static BLSPublicKey subtract(
+      final BLSPublicKey aggregate, final List<BLSPublicKey> publicKeys) {
+    return new BLSPublicKey(
+        BLS.getBlsImpl()
+            .subtractPublicKeys(
+                aggregate.getPublicKey(),
+                publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
+  }
+
   public static BLSPublicKey fromSSZBytes(final Bytes bytes) {
     checkArgument(
         bytes.size() == SSZ_BLS_PUBKEY_SIZE,
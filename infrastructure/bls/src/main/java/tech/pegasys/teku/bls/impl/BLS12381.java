@@ -77,6 +77,22 @@ public interface BLS12381 {
    */
   Signature signatureFromCompressed(Bytes compressedSignatureBytes);
 
+  /**
+   * Returns the number of {@link #signatureFromCompressed(Bytes)} calls answered from a cache of
+   * decompressed signatures. Implementations without such a cache always return 0.
+   */
+  default long getSignatureCacheHitCount() {
+    return 0;
+  }
+
+  /**
+   * Returns the number of {@link #signatureFromCompressed(Bytes)} calls which had to decompress the
+   * signature. Implementations without a cache of decompressed signatures always return 0.
+   */
+  default long getSignatureCacheMissCount() {
+    return 0;
+  }
+
   /**
    * Create a private key from bytes
    *
@@ -94,6 +110,17 @@ public interface BLS12381 {
    */
   PublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys);
 
+  /**
+   * Removes a list of PublicKeys from an aggregate PublicKey, returning the public key that
+   * corresponds to G1 point at infinity if any of the keys is not valid.
+   *
+   * @param aggregate The aggregate public key to remove keys from
+   * @param publicKeys The list of public keys which were previously aggregated into {@code
+   *     aggregate}
+   * @return PublicKey The aggregate of the remaining public keys
+   */
+  PublicKey subtractPublicKeys(PublicKey aggregate, List<? extends PublicKey> publicKeys);
+
   /**
    * Aggregates a list of Signatures, returning the signature that corresponds to G2 point at
    * infinity if list is empty.
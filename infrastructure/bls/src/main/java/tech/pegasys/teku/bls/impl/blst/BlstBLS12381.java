@@ -90,7 +90,17 @@ public class BlstBLS12381 implements BLS12381 {
 
   @Override
   public BlstSignature signatureFromCompressed(final Bytes compressedSignatureBytes) {
-    return BlstSignature.fromBytes(compressedSignatureBytes);
+    return BlstSignatureCache.fromBytes(compressedSignatureBytes);
+  }
+
+  @Override
+  public long getSignatureCacheHitCount() {
+    return BlstSignatureCache.getHitCount();
+  }
+
+  @Override
+  public long getSignatureCacheMissCount() {
+    return BlstSignatureCache.getMissCount();
   }
 
   @Override
@@ -103,6 +113,14 @@ public class BlstBLS12381 implements BLS12381 {
     return BlstPublicKey.aggregate(publicKeys.stream().map(BlstPublicKey::fromPublicKey).toList());
   }
 
+  @Override
+  public BlstPublicKey subtractPublicKeys(
+      final PublicKey aggregate, final List<? extends PublicKey> publicKeys) {
+    return BlstPublicKey.subtract(
+        BlstPublicKey.fromPublicKey(aggregate),
+        publicKeys.stream().map(BlstPublicKey::fromPublicKey).toList());
+  }
+
   @Override
   public BlstSignature aggregateSignatures(final List<? extends Signature> signatures) {
     return BlstSignature.aggregate(signatures.stream().map(BlstSignature::fromSignature).toList());
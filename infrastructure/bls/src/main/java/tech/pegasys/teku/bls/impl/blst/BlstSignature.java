@@ -15,8 +15,10 @@ package tech.pegasys.teku.bls.impl.blst;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
 import supranational.blst.BLST_ERROR;
 import supranational.blst.P2;
@@ -90,6 +92,7 @@ public class BlstSignature implements Signature {
   }
 
   final P2_Affine ec2Point;
+  private final Supplier<Boolean> isInGroup = Suppliers.memoize(this::checkGroupMembership);
 
   public BlstSignature(final P2_Affine ec2Point) {
     this.ec2Point = ec2Point;
@@ -145,6 +148,10 @@ public class BlstSignature implements Signature {
 
   @Override
   public boolean isInGroup() {
+    return isInGroup.get();
+  }
+
+  private boolean checkGroupMembership() {
     return ec2Point.in_group();
   }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls.impl.blst;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Decompressed signatures keyed by a copy of their compressed bytes.
+ *
+ * <p>The same attestations and aggregates reach us from several peers and topics, and each copy
+ * would otherwise decompress the G2 point again. Cached signatures also remember the result of
+ * their group membership check. Bytes which fail to decompress are not cached.
+ */
+public final class BlstSignatureCache {
+  static final int MAX_SIZE = 16_384;
+
+  private static final Cache<Bytes, BlstSignature> SIGNATURES =
+      CacheBuilder.newBuilder().maximumSize(MAX_SIZE).recordStats().build();
+
+  private BlstSignatureCache() {}
+
+  static BlstSignature fromBytes(final Bytes compressed) {
+    final BlstSignature cached = SIGNATURES.getIfPresent(compressed);
+    if (cached != null) {
+      return cached;
+    }
+    final BlstSignature signature = BlstSignature.fromBytes(compressed);
+    SIGNATURES.put(compressed.copy(), signature);
+    return signature;
+  }
+
+  static long getHitCount() {
+    return stats().hitCount();
+  }
+
+  static long getMissCount() {
+    return stats().missCount();
+  }
+
+  private static CacheStats stats() {
+    return SIGNATURES.stats();
+  }
+}
@@ -215,6 +215,38 @@ abstract class BLSPublicKeyTest {
     assertThat(aggrPk).isEqualTo(INFINITY_PUBLIC_KEY);
   }
 
+  @Test
+  void subtractShouldRemovePreviouslyAggregatedKeys() {
+    BLSPublicKey pk1 = BLSTestUtil.randomKeyPair(1).getPublicKey();
+    BLSPublicKey pk2 = BLSTestUtil.randomKeyPair(2).getPublicKey();
+    BLSPublicKey pk3 = BLSTestUtil.randomKeyPair(3).getPublicKey();
+
+    BLSPublicKey aggrPk = BLSPublicKey.aggregate(List.of(pk1, pk2, pk3));
+
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of(pk2)))
+        .isEqualTo(BLSPublicKey.aggregate(List.of(pk1, pk3)));
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of(pk1, pk3)).isValid()).isTrue();
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of(pk1, pk3))).isEqualTo(pk2);
+  }
+
+  @Test
+  void subtractAllKeysShouldReturnInvalidKey() {
+    BLSPublicKey pk1 = BLSTestUtil.randomKeyPair(1).getPublicKey();
+    BLSPublicKey pk2 = BLSTestUtil.randomKeyPair(2).getPublicKey();
+
+    BLSPublicKey aggrPk = BLSPublicKey.aggregate(List.of(pk1, pk2));
+
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of(pk1, pk2)).isValid()).isFalse();
+  }
+
+  @Test
+  void subtractInfinitePubKeyShouldFail() {
+    BLSPublicKey pk = BLSTestUtil.randomKeyPair(1).getPublicKey();
+
+    assertThat(BLSPublicKey.subtract(pk, List.of(INFINITY_PUBLIC_KEY)))
+        .isEqualTo(INFINITY_PUBLIC_KEY);
+  }
+
   @Test
   public void toAbbreviatedString_shouldShowFirstSevenBytesOfPublicKey() {
     Bytes keyBytes =
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static tech.pegasys.teku.bls.impl.blst.BlstSignature.INFINITY;
 
+import java.util.Arrays;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,33 @@ public class BlstSignatureTest extends AbstractSignatureTest {
     assertThrows(BlsException.class, () -> BlstSignature.fromBytes(Bytes.wrap(new byte[96])));
   }
 
+  @Test
+  void signatureFromCompressedShouldReuseDecompressedSignature() {
+    final Bytes compressed = INFINITY_BYTES.copy();
+
+    final BlstSignature first = (BlstSignature) bls.signatureFromCompressed(compressed);
+    final BlstSignature second = (BlstSignature) bls.signatureFromCompressed(compressed);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void signatureFromCompressedShouldNotBeAffectedByChangesToCachedBytes() {
+    final byte[] compressed = INFINITY_BYTES.toArray();
+    bls.signatureFromCompressed(Bytes.wrap(compressed));
+
+    Arrays.fill(compressed, (byte) 0);
+
+    assertThrows(BlsException.class, () -> bls.signatureFromCompressed(Bytes.wrap(new byte[96])));
+  }
+
+  @Test
+  void signatureFromCompressedShouldNotCacheBadSignatures() {
+    final Bytes badBytes = Bytes.wrap(new byte[96]);
+    assertThrows(BlsException.class, () -> bls.signatureFromCompressed(badBytes));
+    assertThrows(BlsException.class, () -> bls.signatureFromCompressed(badBytes));
+  }
+
   @Test
   void infinitySignatureIsInfinity() {
     assertThat(INFINITY.isInfinity()).isTrue();
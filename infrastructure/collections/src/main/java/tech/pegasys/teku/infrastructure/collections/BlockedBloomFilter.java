@@ -0,0 +1,105 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A blocked bloom filter over object hash codes.
+ *
+ * <p>Each key maps to a single 512-bit block, the size of a typical cache line, and sets {@link
+ * #BITS_PER_KEY} bits within it. Lookups therefore touch one cache line, at the cost of a slightly
+ * higher false positive rate than a standard bloom filter of the same size.
+ *
+ * <p>The filter never returns false negatives, but elements can't be removed, so owners that evict
+ * elements need to replace it with a re-populated filter periodically to keep false positives low.
+ * This class is safe for concurrent use.
+ */
+public class BlockedBloomFilter {
+  private static final int WORDS_PER_BLOCK = 8;
+  private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+  static final int BITS_PER_KEY = 8;
+  private static final int BLOCK_BITS_PER_KEY = 16;
+
+  private final AtomicLongArray words;
+  private final int blockCount;
+
+  /**
+   * @param expectedElements the number of elements the filter should hold with a false positive
+   *     rate below 1%
+   */
+  public BlockedBloomFilter(final int expectedElements) {
+    checkArgument(expectedElements > 0, "Expected elements must be positive");
+    this.blockCount =
+        Math.max(1, (int) ((long) expectedElements * BLOCK_BITS_PER_KEY / BITS_PER_BLOCK) + 1);
+    this.words = new AtomicLongArray(blockCount * WORDS_PER_BLOCK);
+  }
+
+  public void add(final Object key) {
+    final long hash = mix(key.hashCode());
+    final int blockOffset = getBlockOffset(hash);
+    for (int i = 0; i < BITS_PER_KEY; i++) {
+      final int bit = getBitInBlock(hash, i);
+      final int wordIndex = blockOffset + (bit >>> 6);
+      final long mask = 1L << bit;
+      if ((words.get(wordIndex) & mask) == 0) {
+        words.getAndUpdate(wordIndex, word -> word | mask);
+      }
+    }
+  }
+
+  /**
+   * @return false if the key has definitely not been added to the filter, true if it may have been
+   */
+  public boolean mightContain(final Object key) {
+    final long hash = mix(key.hashCode());
+    final int blockOffset = getBlockOffset(hash);
+    for (int i = 0; i < BITS_PER_KEY; i++) {
+      final int bit = getBitInBlock(hash, i);
+      if ((words.get(blockOffset + (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the size of the filter's bitset in bytes. */
+  public long getSizeInBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  private int getBlockOffset(final long hash) {
+    return (int) Long.remainderUnsigned(hash >>> 32, blockCount) * WORDS_PER_BLOCK;
+  }
+
+  private static int getBitInBlock(final long hash, final int i) {
+    // Double hashing within the block, using the lower half of the hash
+    final int hash1 = (int) hash;
+    final int hash2 = (int) (hash >>> 16) | 1;
+    return (hash1 + i * hash2) & (BITS_PER_BLOCK - 1);
+  }
+
+  /** Spreads the 32-bit hash code over 64 bits (the murmur3 finalizer). */
+  private static long mix(final int hashCode) {
+    long h = hashCode * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
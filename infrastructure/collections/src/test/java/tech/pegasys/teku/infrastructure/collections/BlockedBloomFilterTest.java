@@ -0,0 +1,49 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockedBloomFilterTest {
+
+  @Test
+  public void mightContain_shouldBeTrueForAllAddedKeys() {
+    final BlockedBloomFilter filter = new BlockedBloomFilter(1000);
+    for (int i = 0; i < 1000; i++) {
+      filter.add("key" + i);
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(filter.mightContain("key" + i)).isTrue();
+    }
+  }
+
+  @Test
+  public void mightContain_shouldHaveLowFalsePositiveRateAtCapacity() {
+    final BlockedBloomFilter filter = new BlockedBloomFilter(1000);
+    for (int i = 0; i < 1000; i++) {
+      filter.add("key" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.mightContain("other" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(200);
+  }
+}
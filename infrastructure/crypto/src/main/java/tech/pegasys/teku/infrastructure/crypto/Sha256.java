@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.crypto;
 
+import java.security.DigestException;
 import java.security.MessageDigest;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -44,4 +45,17 @@ public class Sha256 {
   public Bytes32 wrappedDigest(final Bytes a, final Bytes b) {
     return Bytes32.wrap(digest(a, b));
   }
+
+  /**
+   * Writes the digest of {@code input} to {@code output} starting at {@code offset}, so callers
+   * hashing many small inputs can reuse their buffers.
+   */
+  public void digestInto(final byte[] input, final byte[] output, final int offset) {
+    messageDigest.update(input);
+    try {
+      messageDigest.digest(output, offset, messageDigest.getDigestLength());
+    } catch (final DigestException e) {
+      throw new IllegalArgumentException("Output buffer too small for digest", e);
+    }
+  }
 }
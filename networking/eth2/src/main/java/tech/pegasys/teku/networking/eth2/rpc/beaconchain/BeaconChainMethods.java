@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
@@ -33,6 +34,7 @@ import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessage
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.PingMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageHandler;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.ForkDigestPayloadContext;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
@@ -57,11 +59,15 @@ import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.GoodbyeMessag
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.PingMessage;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.StatusMessage;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.metadata.MetadataMessage;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsDeneb;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BeaconChainMethods {
+  // Enough for the blocks and blob sidecars of the last few epochs that syncing peers request most
+  private static final long BLOCK_PAYLOAD_CACHE_SIZE_BYTES = 32 * 1024 * 1024;
+  private static final long BLOB_SIDECAR_PAYLOAD_CACHE_SIZE_BYTES = 128 * 1024 * 1024;
 
   private final Eth2RpcMethod<StatusMessage, StatusMessage> status;
   private final Eth2RpcMethod<GoodbyeMessage, GoodbyeMessage> goodBye;
@@ -114,11 +120,23 @@ public class BeaconChainMethods {
       final StatusMessageFactory statusMessageFactory,
       final MetadataMessagesFactory metadataMessagesFactory,
       final RpcEncoding rpcEncoding) {
+    final EncodedPayloadCache<Bytes32> blockPayloadCache =
+        new EncodedPayloadCache<>(
+            metricsSystem, "blocks", rpcEncoding, BLOCK_PAYLOAD_CACHE_SIZE_BYTES);
+    final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache =
+        new EncodedPayloadCache<>(
+            metricsSystem, "blob_sidecars", rpcEncoding, BLOB_SIDECAR_PAYLOAD_CACHE_SIZE_BYTES);
     return new BeaconChainMethods(
         createStatus(asyncRunner, statusMessageFactory, peerLookup, rpcEncoding),
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
         createBeaconBlocksByRoot(
-            spec, metricsSystem, asyncRunner, recentChainData, peerLookup, rpcEncoding),
+            spec,
+            metricsSystem,
+            asyncRunner,
+            recentChainData,
+            peerLookup,
+            rpcEncoding,
+            blockPayloadCache),
         createBeaconBlocksByRange(
             spec,
             metricsSystem,
@@ -126,7 +144,8 @@ public class BeaconChainMethods {
             recentChainData,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding),
+            rpcEncoding,
+            blockPayloadCache),
         createBlobSidecarsByRoot(
             spec,
             metricsSystem,
@@ -134,7 +153,8 @@ public class BeaconChainMethods {
             combinedChainDataClient,
             peerLookup,
             rpcEncoding,
-            recentChainData),
+            recentChainData,
+            blobSidecarPayloadCache),
         createBlobSidecarsByRange(
             spec,
             metricsSystem,
@@ -142,7 +162,8 @@ public class BeaconChainMethods {
             combinedChainDataClient,
             peerLookup,
             rpcEncoding,
-            recentChainData),
+            recentChainData,
+            blobSidecarPayloadCache),
         createMetadata(spec, asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding),
         createPing(asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding));
   }
@@ -194,9 +215,11 @@ public class BeaconChainMethods {
           final AsyncRunner asyncRunner,
           final RecentChainData recentChainData,
           final PeerLookup peerLookup,
-          final RpcEncoding rpcEncoding) {
+          final RpcEncoding rpcEncoding,
+          final EncodedPayloadCache<Bytes32> blockPayloadCache) {
     final BeaconBlocksByRootMessageHandler beaconBlocksByRootHandler =
-        new BeaconBlocksByRootMessageHandler(spec, metricsSystem, recentChainData);
+        new BeaconBlocksByRootMessageHandler(
+            spec, metricsSystem, recentChainData, blockPayloadCache);
 
     final BeaconBlocksByRootRequestMessageSchema requestType =
         spec.getGenesisSchemaDefinitions().getBeaconBlocksByRootRequestMessageSchema();
@@ -231,9 +254,11 @@ public class BeaconChainMethods {
           final RecentChainData recentChainData,
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
-          final RpcEncoding rpcEncoding) {
+          final RpcEncoding rpcEncoding,
+          final EncodedPayloadCache<Bytes32> blockPayloadCache) {
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
 
     final BeaconBlocksByRangeRequestMessageSchema requestType =
         BeaconBlocksByRangeRequestMessage.SSZ_SCHEMA;
@@ -268,7 +293,8 @@ public class BeaconChainMethods {
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding,
-          final RecentChainData recentChainData) {
+          final RecentChainData recentChainData,
+          final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache) {
     if (!spec.isMilestoneSupported(SpecMilestone.DENEB)) {
       return Optional.empty();
     }
@@ -277,7 +303,8 @@ public class BeaconChainMethods {
         RpcContextCodec.forkDigest(spec, recentChainData, ForkDigestPayloadContext.BLOB_SIDECAR);
 
     final BlobSidecarsByRootMessageHandler blobSidecarsByRootHandler =
-        new BlobSidecarsByRootMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BlobSidecarsByRootMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blobSidecarPayloadCache);
     final BlobSidecarsByRootRequestMessageSchema blobSidecarsByRootRequestMessageSchema =
         SchemaDefinitionsDeneb.required(
                 spec.forMilestone(SpecMilestone.DENEB).getSchemaDefinitions())
@@ -304,7 +331,8 @@ public class BeaconChainMethods {
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding,
-          final RecentChainData recentChainData) {
+          final RecentChainData recentChainData,
+          final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache) {
 
     if (!spec.isMilestoneSupported(SpecMilestone.DENEB)) {
       return Optional.empty();
@@ -317,7 +345,8 @@ public class BeaconChainMethods {
         RpcContextCodec.forkDigest(spec, recentChainData, ForkDigestPayloadContext.BLOB_SIDECAR);
 
     final BlobSidecarsByRangeMessageHandler blobSidecarsByRangeHandler =
-        new BlobSidecarsByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BlobSidecarsByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blobSidecarPayloadCache);
 
     return Optional.of(
         new SingleProtocolEth2RpcMethod<>(
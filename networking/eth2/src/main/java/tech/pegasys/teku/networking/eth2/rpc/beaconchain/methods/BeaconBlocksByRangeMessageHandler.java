@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -40,9 +41,11 @@ import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandle
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockInvariants;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
@@ -54,15 +57,18 @@ public class BeaconBlocksByRangeMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final EncodedPayloadCache<Bytes32> blockPayloadCache;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlocksRequestedCounter;
 
   public BeaconBlocksByRangeMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final EncodedPayloadCache<Bytes32> blockPayloadCache) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.blockPayloadCache = blockPayloadCache;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -247,7 +253,7 @@ public class BeaconBlocksByRangeMessageHandler
 
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
+      final RequestState requestState, final Optional<BlockPayload> block) {
     return block
         .map(requestState::sendBlock)
         .orElse(SafeFuture.COMPLETE)
@@ -300,13 +306,18 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+    SafeFuture<Void> sendBlock(final BlockPayload block) {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
+      // Blocks are sent exactly as stored to avoid deserializing them only to serialize them again
+      final SafeFuture<Void> response =
+          block.isEncoded()
+              ? callback.respondEncoded(block.slot(), block.payload())
+              : callback.respondSerialized(block.slot(), block.payload());
+      return response.thenRun(sentBlocks::incrementAndGet);
     }
 
     void decrementRemainingBlocks() {
@@ -317,14 +328,29 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    SafeFuture<Optional<BlockPayload>> loadNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
-        // Known root so lookup by root
+        // Known root so recent blocks may already be encoded, otherwise lookup by root
+        final Optional<Bytes> cachedBlock = blockPayloadCache.get(knownBlockRoot);
+        if (cachedBlock.isPresent()) {
+          return SafeFuture.completedFuture(
+              Optional.of(new BlockPayload(slot, cachedBlock.get(), true)));
+        }
         return combinedChainDataClient
-            .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .getBlockByBlockRootAsSsz(knownBlockRoot)
+            .thenApply(
+                maybeBlock ->
+                    maybeBlock
+                        .filter(
+                            block ->
+                                BeaconBlockInvariants.extractSignedBlockContainerSlot(block)
+                                    .equals(slot))
+                        .map(
+                            block ->
+                                new BlockPayload(
+                                    slot, blockPayloadCache.encode(knownBlockRoot, block), true)));
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
@@ -332,8 +358,16 @@ public class BeaconBlocksByRangeMessageHandler
         return SafeFuture.completedFuture(Optional.empty());
       } else {
         // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        return combinedChainDataClient
+            .getBlockAtSlotExactAsSsz(slot)
+            .thenApply(maybeBlock -> maybeBlock.map(block -> new BlockPayload(slot, block, false)));
       }
     }
   }
+
+  /**
+   * A block ready to send, either encoded and possibly shared with other requests via the block
+   * payload cache, or only SSZ serialized when its root isn't known.
+   */
+  private record BlockPayload(UInt64 slot, Bytes payload, boolean isEncoded) {}
 }
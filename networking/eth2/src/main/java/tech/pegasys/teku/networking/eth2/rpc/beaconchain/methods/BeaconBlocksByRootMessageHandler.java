@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -37,6 +38,7 @@ import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandle
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -50,13 +52,18 @@ public class BeaconBlocksByRootMessageHandler
 
   private final Spec spec;
   private final RecentChainData recentChainData;
+  private final EncodedPayloadCache<Bytes32> blockPayloadCache;
   private final Counter totalBlocksRequestedCounter;
   private final LabelledMetric<Counter> requestCounter;
 
   public BeaconBlocksByRootMessageHandler(
-      final Spec spec, final MetricsSystem metricsSystem, final RecentChainData recentChainData) {
+      final Spec spec,
+      final MetricsSystem metricsSystem,
+      final RecentChainData recentChainData,
+      final EncodedPayloadCache<Bytes32> blockPayloadCache) {
     this.spec = spec;
     this.recentChainData = recentChainData;
+    this.blockPayloadCache = blockPayloadCache;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -124,8 +131,7 @@ public class BeaconBlocksByRootMessageHandler
                             return block
                                 .map(
                                     signedBeaconBlock ->
-                                        callback
-                                            .respond(signedBeaconBlock)
+                                        sendBlock(callback, blockRoot.get(), signedBeaconBlock)
                                             .thenRun(sentBlocks::incrementAndGet))
                                 .orElse(SafeFuture.COMPLETE);
                           }));
@@ -143,6 +149,14 @@ public class BeaconBlocksByRootMessageHandler
         });
   }
 
+  private SafeFuture<Void> sendBlock(
+      final ResponseCallback<SignedBeaconBlock> callback,
+      final Bytes32 blockRoot,
+      final SignedBeaconBlock block) {
+    final Bytes encodedBlock = blockPayloadCache.getOrEncode(blockRoot, block::sszSerialize);
+    return callback.respondEncoded(block.getSlot(), encodedBlock);
+  }
+
   private SafeFuture<Optional<SignedBeaconBlock>> retrieveBlock(final Bytes32 blockRoot) {
     final Optional<SignedBeaconBlock> recentlyValidatedSignedBlock =
         recentChainData.getRecentlyValidatedSignedBlockByRoot(blockRoot);
@@ -26,6 +26,7 @@ import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -39,6 +40,7 @@ import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandle
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ResourceUnavailableException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.SpecConfigDeneb;
@@ -59,15 +61,18 @@ public class BlobSidecarsByRangeMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlobSidecarsRequestedCounter;
 
   public BlobSidecarsByRangeMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.blobSidecarPayloadCache = blobSidecarPayloadCache;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -276,11 +281,13 @@ public class BlobSidecarsByRangeMessageHandler
       this.maxRequestBlobSidecars = maxRequestBlobSidecars;
     }
 
-    SafeFuture<Void> sendBlobSidecar(final BlobSidecar blobSidecar) {
-      return callback.respond(blobSidecar).thenRun(sentBlobSidecars::incrementAndGet);
+    SafeFuture<Void> sendBlobSidecar(final EncodedBlobSidecar blobSidecar) {
+      return callback
+          .respondEncoded(blobSidecar.slot(), blobSidecar.encodedPayload())
+          .thenRun(sentBlobSidecars::incrementAndGet);
     }
 
-    SafeFuture<Optional<BlobSidecar>> loadNextBlobSidecar() {
+    SafeFuture<Optional<EncodedBlobSidecar>> loadNextBlobSidecar() {
       if (blobSidecarKeysIterator.isEmpty()) {
         return combinedChainDataClient
             .getBlobSidecarKeys(startSlot, endSlot, maxRequestBlobSidecars)
@@ -294,19 +301,19 @@ public class BlobSidecarsByRangeMessageHandler
       }
     }
 
-    private SafeFuture<Optional<BlobSidecar>> getNextBlobSidecar(
+    private SafeFuture<Optional<EncodedBlobSidecar>> getNextBlobSidecar(
         final Iterator<SlotAndBlockRootAndBlobIndex> blobSidecarKeysIterator) {
       if (blobSidecarKeysIterator.hasNext()) {
         final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex =
             blobSidecarKeysIterator.next();
 
         if (finalizedSlot.isGreaterThanOrEqualTo(slotAndBlockRootAndBlobIndex.getSlot())) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return getBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // not finalized, let's check if it is on canonical chain
         if (isCanonicalHotBlobSidecar(slotAndBlockRootAndBlobIndex)) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return getBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // non-canonical, try next one
@@ -316,6 +323,25 @@ public class BlobSidecarsByRangeMessageHandler
       return SafeFuture.completedFuture(Optional.empty());
     }
 
+    private SafeFuture<Optional<EncodedBlobSidecar>> getBlobSidecar(
+        final SlotAndBlockRootAndBlobIndex key) {
+      final Optional<Bytes> cachedBlobSidecar = blobSidecarPayloadCache.get(key);
+      if (cachedBlobSidecar.isPresent()) {
+        return SafeFuture.completedFuture(
+            Optional.of(new EncodedBlobSidecar(key.getSlot(), cachedBlobSidecar.get())));
+      }
+      // Blob sidecars are encoded exactly as stored to avoid deserializing them only to serialize
+      // them again
+      return combinedChainDataClient
+          .getBlobSidecarByKeyAsSsz(key)
+          .thenApply(
+              maybeSsz ->
+                  maybeSsz.map(
+                      ssz ->
+                          new EncodedBlobSidecar(
+                              key.getSlot(), blobSidecarPayloadCache.encode(key, ssz))));
+    }
+
     private boolean isCanonicalHotBlobSidecar(
         final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex) {
       return Optional.ofNullable(canonicalHotRoots.get(slotAndBlockRootAndBlobIndex.getSlot()))
@@ -327,4 +353,6 @@ public class BlobSidecarsByRangeMessageHandler
       return blobSidecarKeysIterator.map(iterator -> !iterator.hasNext()).orElse(false);
     }
   }
+
+  private record EncodedBlobSidecar(UInt64 slot, Bytes encodedPayload) {}
 }
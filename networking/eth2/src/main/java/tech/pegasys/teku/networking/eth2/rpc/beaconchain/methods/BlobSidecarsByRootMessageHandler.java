@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -32,6 +33,7 @@ import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.SpecConfigDeneb;
@@ -39,6 +41,7 @@ import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BlobIdentifier;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BlobSidecarsByRootRequestMessage;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 /**
@@ -53,6 +56,7 @@ public class BlobSidecarsByRootMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache;
 
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlobSidecarsRequestedCounter;
@@ -60,9 +64,11 @@ public class BlobSidecarsByRootMessageHandler
   public BlobSidecarsByRootMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final EncodedPayloadCache<SlotAndBlockRootAndBlobIndex> blobSidecarPayloadCache) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.blobSidecarPayloadCache = blobSidecarPayloadCache;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -133,8 +139,7 @@ public class BlobSidecarsByRootMessageHandler
                       maybeSidecar
                           .map(
                               blobSidecar ->
-                                  callback
-                                      .respond(blobSidecar)
+                                  sendBlobSidecar(callback, blobSidecar)
                                       .thenRun(sentBlobSidecars::incrementAndGet))
                           .orElse(SafeFuture.COMPLETE));
     }
@@ -202,6 +207,16 @@ public class BlobSidecarsByRootMessageHandler
             });
   }
 
+  private SafeFuture<Void> sendBlobSidecar(
+      final ResponseCallback<BlobSidecar> callback, final BlobSidecar blobSidecar) {
+    final SlotAndBlockRootAndBlobIndex key =
+        new SlotAndBlockRootAndBlobIndex(
+            blobSidecar.getSlot(), blobSidecar.getBlockRoot(), blobSidecar.getIndex());
+    final Bytes encodedBlobSidecar =
+        blobSidecarPayloadCache.getOrEncode(key, blobSidecar::sszSerialize);
+    return callback.respondEncoded(blobSidecar.getSlot(), encodedBlobSidecar);
+  }
+
   private SafeFuture<Optional<BlobSidecar>> retrieveBlobSidecar(final BlobIdentifier identifier) {
     return combinedChainDataClient.getBlobSidecarByBlockRootAndIndex(
         identifier.getBlockRoot(), identifier.getIndex());
@@ -13,11 +13,32 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Responds with a payload that is already SSZ serialized, such as one read directly from
+   * storage, so it doesn't have to be deserialized only to be serialized again.
+   *
+   * @param slot the slot of the payload, used to determine the response context
+   * @param serializedData the SSZ serialized payload
+   */
+  SafeFuture<Void> respondSerialized(UInt64 slot, Bytes serializedData);
+
+  /**
+   * Responds with a payload that has already been encoded with the request's {@link
+   * tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding}, such as one held in an
+   * {@link tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache}.
+   *
+   * @param slot the slot of the payload, used to determine the response context
+   * @param encodedPayload the length prefixed and compressed payload
+   */
+  SafeFuture<Void> respondEncoded(UInt64 slot, Bytes encodedPayload);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
@@ -0,0 +1,146 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Size bounded cache of SSZ payloads which have already been encoded (length prefixed and
+ * compressed) for req/resp responses. Recent blocks and blob sidecars are requested repeatedly by
+ * syncing peers, so caching them avoids serializing and compressing the same item for every
+ * request.
+ *
+ * <p>Entries are evicted in least recently used order once the total size of the encoded payloads
+ * exceeds the configured limit. Keys must uniquely identify the payload content.
+ *
+ * @param <K> the type of key identifying a payload
+ */
+public class EncodedPayloadCache<K> {
+
+  private final RpcEncoding encoding;
+  private final long maxSizeBytes;
+  private final LinkedHashMap<K, CachedPayload> payloads = new LinkedHashMap<>(16, 0.75f, true);
+  private long currentSizeBytes = 0;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter bytesSavedCounter;
+
+  public EncodedPayloadCache(
+      final MetricsSystem metricsSystem,
+      final String name,
+      final RpcEncoding encoding,
+      final long maxSizeBytes) {
+    this.encoding = encoding;
+    this.maxSizeBytes = maxSizeBytes;
+    final LabelledMetric<Counter> lookupCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_" + name + "_payload_cache_total",
+            "Total number of lookups of encoded " + name + " payloads for req/resp responses",
+            "result");
+    hitCounter = lookupCounter.labels("hit");
+    missCounter = lookupCounter.labels("miss");
+    bytesSavedCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_" + name + "_payload_cache_bytes_saved_total",
+            "Total number of serialized " + name + " bytes sent without being encoded again");
+  }
+
+  /**
+   * Returns the encoded payload for the given key if it is cached.
+   *
+   * @param key the key identifying the payload
+   * @return the encoded payload or empty if not cached
+   */
+  public Optional<Bytes> get(final K key) {
+    final Optional<CachedPayload> cachedPayload;
+    synchronized (this) {
+      cachedPayload = Optional.ofNullable(payloads.get(key));
+    }
+    cachedPayload.ifPresentOrElse(
+        payload -> {
+          hitCounter.inc();
+          bytesSavedCounter.inc(payload.serializedSize());
+        },
+        missCounter::inc);
+    return cachedPayload.map(CachedPayload::encodedPayload);
+  }
+
+  /**
+   * Encodes the serialized payload and adds it to the cache.
+   *
+   * @param key the key identifying the payload
+   * @param serializedPayload the SSZ serialized payload
+   * @return the encoded payload
+   */
+  public Bytes encode(final K key, final Bytes serializedPayload) {
+    // Compress outside the lock so concurrent requests for other items aren't blocked
+    final Bytes encodedPayload = encoding.encodeSerializedPayload(serializedPayload);
+    put(key, new CachedPayload(encodedPayload, serializedPayload.size()));
+    return encodedPayload;
+  }
+
+  /**
+   * Returns the cached encoded payload for the given key, encoding and caching the serialized
+   * payload on a miss.
+   *
+   * @param key the key identifying the payload
+   * @param serializedPayload supplies the SSZ serialized payload, only called on a miss
+   * @return the encoded payload
+   */
+  public Bytes getOrEncode(final K key, final Supplier<Bytes> serializedPayload) {
+    return get(key).orElseGet(() -> encode(key, serializedPayload.get()));
+  }
+
+  private synchronized void put(final K key, final CachedPayload payload) {
+    final long payloadSize = payload.encodedPayload().size();
+    if (payloadSize > maxSizeBytes) {
+      return;
+    }
+    final CachedPayload previous = payloads.put(key, payload);
+    if (previous != null) {
+      currentSizeBytes -= previous.encodedPayload().size();
+    }
+    currentSizeBytes += payloadSize;
+
+    final Iterator<CachedPayload> eldestFirst = payloads.values().iterator();
+    while (currentSizeBytes > maxSizeBytes && eldestFirst.hasNext()) {
+      currentSizeBytes -= eldestFirst.next().encodedPayload().size();
+      eldestFirst.remove();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized long getCurrentSizeBytes() {
+    return currentSizeBytes;
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return payloads.size();
+  }
+
+  private record CachedPayload(Bytes encodedPayload, int serializedSize) {}
+}
@@ -69,11 +69,15 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     }
     final RpcPayloadEncoder<T> payloadEncoder =
         payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
-    final Bytes payload = payloadEncoder.encode(message);
-    if (payload.isEmpty()) {
-      return payload;
+    return encodeSerializedPayload(payloadEncoder.encode(message));
+  }
+
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes serializedPayload) {
+    if (serializedPayload.isEmpty()) {
+      return serializedPayload;
     }
-    return encodeMessageWithLength(payload);
+    return encodeMessageWithLength(serializedPayload);
   }
 
   @Override
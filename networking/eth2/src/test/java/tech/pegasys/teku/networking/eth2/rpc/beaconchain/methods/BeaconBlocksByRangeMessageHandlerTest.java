@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -48,6 +49,7 @@ import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -91,8 +93,12 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(2, RPC_ENCODING);
+  private final EncodedPayloadCache<Bytes32> blockPayloadCache =
+      new EncodedPayloadCache<>(metricsSystem, "blocks", RPC_ENCODING, 1024 * 1024);
   private final BeaconBlocksByRangeMessageHandler handler =
-      new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+      new BeaconBlocksByRangeMessageHandler(
+          spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
+  private final NavigableMap<UInt64, Bytes32> ancestorRoots = new TreeMap<>();
   private final Optional<RequestApproval> allowedObjectsRequest =
       Optional.of(
           new RequestApproval.RequestApprovalBuilder().objectsCount(100).timeSeconds(ZERO).build());
@@ -103,7 +109,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(peer.approveBlocksRequest(any(), anyLong())).thenReturn(allowedObjectsRequest);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondEncoded(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -119,7 +126,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForPhase0Block() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -132,7 +140,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForAltairBlock() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -145,7 +154,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForRangeOfBlocksAcrossForkBoundary() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -235,7 +245,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
     final Spec spec = TestSpecFactory.createMinimalWithDenebForkEpoch(ONE);
 
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, blockPayloadCache);
 
     final SpecConfig config = spec.forMilestone(SpecMilestone.DENEB).getConfig();
     final SpecConfigDeneb specConfigDeneb = SpecConfigDeneb.required(config);
@@ -262,7 +273,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     withCanonicalHeadBlock(blocksWStates.get(1));
     withAncestorRoots(startBlock, count, skip, hotBlocks());
 
-    when(combinedChainDataClient.getBlockAtSlotExact(any()))
+    when(combinedChainDataClient.getBlockAtSlotExactAsSsz(any()))
         .thenReturn(completedFuture(Optional.empty()));
 
     requestBlocks(startBlock, count, skip);
@@ -443,7 +454,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
     verifyNoBlocksReturned();
     // The first block is after the best block available, so we shouldn't request anything
-    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any(), any());
+    verify(combinedChainDataClient, never()).getBlockAtSlotExactAsSsz(any());
   }
 
   @Test
@@ -484,6 +495,26 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyBlocksReturned(1, 2, 3, 4, 5);
   }
 
+  @Test
+  void shouldReuseEncodedHotBlocksForRepeatedRequests() {
+    final int startBlock = 3;
+    final int count = 2;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(10));
+    withAncestorRoots(startBlock, count, skip, hotBlocks(3, 4));
+
+    requestBlocks(startBlock, count, skip);
+    requestBlocks(startBlock, count, skip);
+
+    verify(combinedChainDataClient).getBlockByBlockRootAsSsz(blocks.get(3).getRoot());
+    verify(combinedChainDataClient).getBlockByBlockRootAsSsz(blocks.get(4).getRoot());
+    for (int slot : List.of(3, 4)) {
+      final SignedBeaconBlock block = blocks.get(slot);
+      verify(listener, times(2)).respondEncoded(block.getSlot(), encode(block));
+    }
+    verify(listener, times(2)).completeSuccessfully();
+  }
+
   private void requestBlocks(final int startBlock, final long count, final int skip) {
 
     handler.onIncomingMessage(
@@ -501,17 +532,28 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      final SignedBeaconBlock block = blocks.get(slot);
+      // Blocks loaded by root are encoded via the payload cache, finalized blocks are not
+      if (ancestorRoots.containsKey(block.getSlot())) {
+        inOrder.verify(listener).respondEncoded(block.getSlot(), encode(block));
+      } else {
+        inOrder.verify(listener).respondSerialized(block.getSlot(), block.sszSerialize());
+      }
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
   }
 
+  private Bytes encode(final SignedBeaconBlock block) {
+    return RPC_ENCODING.encodeSerializedPayload(block.sszSerialize());
+  }
+
   private void withAncestorRoots(
       final int startBlock,
       final int count,
       final int skip,
       final NavigableMap<UInt64, Bytes32> blockRoots) {
+    ancestorRoots.putAll(blockRoots);
     when(combinedChainDataClient.getAncestorRoots(
             UInt64.valueOf(startBlock), UInt64.valueOf(skip), UInt64.valueOf(count)))
         .thenReturn(blockRoots);
@@ -528,8 +570,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
             slot -> {
               final SignedBeaconBlock block = blocks.get(slot);
               blockRoots.put(UInt64.valueOf(slot), block.getRoot());
-              when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot()))
-                  .thenReturn(SafeFuture.completedFuture(Optional.of(block)));
+              when(combinedChainDataClient.getBlockByBlockRootAsSsz(block.getRoot()))
+                  .thenReturn(SafeFuture.completedFuture(Optional.of(block.sszSerialize())));
             });
     return blockRoots;
   }
@@ -539,10 +581,12 @@ class BeaconBlocksByRangeMessageHandlerTest {
         .forEach(
             slot -> {
               final SignedBeaconBlock block = blocks.get(slot);
-              final SafeFuture<Optional<SignedBeaconBlock>> result =
-                  completedFuture(Optional.of(block));
-              when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
-              when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
+              final SafeFuture<Optional<Bytes>> result =
+                  completedFuture(Optional.of(block.sszSerialize()));
+              when(combinedChainDataClient.getBlockByBlockRootAsSsz(block.getRoot()))
+                  .thenReturn(result);
+              when(combinedChainDataClient.getBlockAtSlotExactAsSsz(block.getSlot()))
+                  .thenReturn(result);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
   }
@@ -29,16 +29,19 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
@@ -70,8 +73,12 @@ public class BeaconBlocksByRootMessageHandlerTest {
   private final ChainUpdater chainUpdater = storageSystem.chainUpdater();
   final UpdatableStore store = mock(UpdatableStore.class);
   final RecentChainData recentChainData = mock(RecentChainData.class);
+  final EncodedPayloadCache<Bytes32> blockPayloadCache =
+      new EncodedPayloadCache<>(
+          storageSystem.getMetricsSystem(), "blocks", RPC_ENCODING, 1024 * 1024);
   final BeaconBlocksByRootMessageHandler handler =
-      new BeaconBlocksByRootMessageHandler(spec, storageSystem.getMetricsSystem(), recentChainData);
+      new BeaconBlocksByRootMessageHandler(
+          spec, storageSystem.getMetricsSystem(), recentChainData, blockPayloadCache);
   final Eth2Peer peer = mock(Eth2Peer.class);
 
   @SuppressWarnings("unchecked")
@@ -91,7 +98,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
     when(recentChainData.retrieveSignedBlockByRoot(any()))
         .thenAnswer(
             i -> storageSystem.recentChainData().getStore().retrieveSignedBlock(i.getArgument(0)));
-    when(callback.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(callback.respondEncoded(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -105,7 +112,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     final BeaconBlocksByRootMessageHandler handler =
         new BeaconBlocksByRootMessageHandler(
-            spec, storageSystem.getMetricsSystem(), recentChainData);
+            spec, storageSystem.getMetricsSystem(), recentChainData, blockPayloadCache);
 
     final SpecConfig config = spec.forMilestone(SpecMilestone.DENEB).getConfig();
     final SpecConfigDeneb specConfigDeneb = SpecConfigDeneb.required(config);
@@ -142,16 +149,34 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     for (SignedBeaconBlock block : blocks) {
       verify(recentChainData).retrieveSignedBlockByRoot(block.getRoot());
-      verify(callback).respond(block);
+      verify(callback).respondEncoded(block.getSlot(), encode(block));
     }
   }
 
+  @Test
+  public void onIncomingMessage_reusesEncodedBlocksForRepeatedRequests() {
+    final List<SignedBeaconBlock> blocks = buildChain(3);
+
+    final BeaconBlocksByRootRequestMessage message = createRequest(blocks);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+
+    for (SignedBeaconBlock block : blocks) {
+      verify(callback, times(2)).respondEncoded(block.getSlot(), encode(block));
+    }
+    final long cacheHits =
+        storageSystem
+            .getMetricsSystem()
+            .getCounterValue(TekuMetricCategory.NETWORK, "rpc_blocks_payload_cache_total", "hit");
+    assertThat(cacheHits).isEqualTo(blocks.size());
+  }
+
   @Test
   public void onIncomingMessage_interruptedByClosedStream() {
     final List<SignedBeaconBlock> blocks = buildChain(5);
 
     // Mock callback to appear to be closed
-    doThrow(new StreamClosedException()).when(callback).respond(any());
+    doThrow(new StreamClosedException()).when(callback).respondEncoded(any(), any());
 
     final BeaconBlocksByRootRequestMessage message = createRequest(blocks);
     handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
@@ -164,7 +189,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     // Check that we only asked for the first block
     verify(recentChainData, times(1)).retrieveSignedBlockByRoot(any());
-    verify(callback, times(1)).respond(any());
+    verify(callback, times(1)).respondEncoded(any(), any());
   }
 
   @Test
@@ -185,7 +210,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     for (SignedBeaconBlock block : blocks) {
       verify(recentChainData).retrieveSignedBlockByRoot(block.getRoot());
-      verify(callback).respond(block);
+      verify(callback).respondEncoded(block.getSlot(), encode(block));
     }
   }
 
@@ -214,6 +239,10 @@ public class BeaconBlocksByRootMessageHandlerTest {
     assertThat(result).isEmpty();
   }
 
+  private Bytes encode(final SignedBeaconBlock block) {
+    return RPC_ENCODING.encodeSerializedPayload(block.sszSerialize());
+  }
+
   private BeaconBlocksByRootRequestMessage createRequest(final List<SignedBeaconBlock> forBlocks) {
     final List<Bytes32> blockHashes =
         forBlocks.stream().map(SignedBeaconBlock::getRoot).collect(Collectors.toList());
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
@@ -47,6 +48,7 @@ import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -119,7 +121,12 @@ public class BlobSidecarsByRangeMessageHandlerTest {
             .getMaxBlobsPerBlock();
     slotsPerEpoch = spec.getSlotsPerEpoch(ZERO);
     startSlot = currentForkEpoch.increment().times(slotsPerEpoch);
-    handler = new BlobSidecarsByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+    handler =
+        new BlobSidecarsByRangeMessageHandler(
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            new EncodedPayloadCache<>(metricsSystem, "blob_sidecars", RPC_ENCODING, 1024 * 1024));
 
     when(peer.approveRequest()).thenReturn(true);
     when(peer.approveBlobSidecarsRequest(eq(listener), anyLong()))
@@ -132,7 +139,7 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // everything is finalized by default
     when(combinedChainDataClient.getFinalizedBlockSlot())
         .thenReturn(Optional.of(startSlot.plus(count)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondEncoded(any(), any())).thenReturn(SafeFuture.COMPLETE);
 
     // mock store
     when(store.getGenesisTime()).thenReturn(genesisTime);
@@ -316,9 +323,9 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     verify(peer, times(1))
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(0)));
 
-    verify(combinedChainDataClient, never()).getBlobSidecarByKey(any());
+    verify(combinedChainDataClient, never()).getBlobSidecarByKeyAsSsz(any());
 
-    verify(listener, never()).respond(any());
+    verify(listener, never()).respondEncoded(any(), any());
 
     verify(listener).completeSuccessfully();
   }
@@ -341,15 +348,34 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondEncoded(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(expectedSent.stream().map(this::encode).toList());
+  }
+
+  @TestTemplate
+  public void shouldReuseEncodedBlobSidecarsForRepeatedRequests() {
+    final BlobSidecarsByRangeRequestMessage request =
+        new BlobSidecarsByRangeRequestMessage(startSlot, count, maxBlobsPerBlock);
+
+    final List<BlobSidecar> expectedSent = setUpBlobSidecarsData(startSlot, request.getMaxSlot());
+
+    handler.onIncomingMessage(protocolId, peer, request, listener);
+    handler.onIncomingMessage(protocolId, peer, request, listener);
+
+    // Stored blob sidecars are only loaded and encoded for the first request
+    verify(combinedChainDataClient, times(expectedSent.size())).getBlobSidecarByKeyAsSsz(any());
+    expectedSent.forEach(
+        blobSidecar ->
+            verify(listener, times(2)).respondEncoded(blobSidecar.getSlot(), encode(blobSidecar)));
+    verify(listener, times(2)).completeSuccessfully();
   }
 
   @TestTemplate
@@ -399,15 +425,16 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondEncoded(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(expectedSent.stream().map(this::encode).toList());
   }
 
   @TestTemplate
@@ -425,11 +452,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondEncoded(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -453,11 +480,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondEncoded(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -514,6 +541,10 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     return headerAndKeys;
   }
 
+  private Bytes encode(final BlobSidecar blobSidecar) {
+    return RPC_ENCODING.encodeSerializedPayload(blobSidecar.sszSerialize());
+  }
+
   private BlobSidecar setUpBlobSidecarDataForKey(
       final Pair<SignedBeaconBlockHeader, SlotAndBlockRootAndBlobIndex> keyAndHeaders) {
     final BlobSidecar blobSidecar =
@@ -522,8 +553,8 @@ public class BlobSidecarsByRangeMessageHandlerTest {
             .signedBeaconBlockHeader(keyAndHeaders.getLeft())
             .index(keyAndHeaders.getValue().getBlobIndex())
             .build();
-    when(combinedChainDataClient.getBlobSidecarByKey(keyAndHeaders.getValue()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar)));
+    when(combinedChainDataClient.getBlobSidecarByKeyAsSsz(keyAndHeaders.getValue()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar.sszSerialize())));
     return blobSidecar;
   }
 }
@@ -27,9 +27,13 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVALID_REQUEST_CODE;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
@@ -43,6 +47,7 @@ import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.EncodedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -66,8 +71,7 @@ public class BlobSidecarsByRootMessageHandlerTest {
   private final UInt64 genesisTime = UInt64.valueOf(1982239L);
   private final UInt64 currentForkEpoch = UInt64.valueOf(1);
   private BlobSidecarsByRootRequestMessageSchema messageSchema;
-  private final ArgumentCaptor<BlobSidecar> blobSidecarCaptor =
-      ArgumentCaptor.forClass(BlobSidecar.class);
+  private final ArgumentCaptor<Bytes> blobSidecarCaptor = ArgumentCaptor.forClass(Bytes.class);
   private final ArgumentCaptor<RpcException> rpcExceptionCaptor =
       ArgumentCaptor.forClass(RpcException.class);
   private final Optional<RequestApproval> allowedObjectsRequest =
@@ -83,6 +87,8 @@ public class BlobSidecarsByRootMessageHandlerTest {
   private final UpdatableStore store = mock(UpdatableStore.class);
   private final Eth2Peer peer = mock(Eth2Peer.class);
   private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final Map<Bytes32, BlobSidecar> blobSidecarsByBlockRoot = new HashMap<>();
+  private RpcEncoding rpcEncoding;
   private String protocolId;
   private UInt64 currentForkFirstSlot;
   private DataStructureUtil dataStructureUtil;
@@ -118,10 +124,15 @@ public class BlobSidecarsByRootMessageHandlerTest {
                 .orElseThrow()
                 .getBlobSidecarsByRootRequestMessageSchema();
     currentForkFirstSlot = spec.computeStartSlotAtEpoch(currentForkEpoch);
-    final RpcEncoding rpcEncoding =
+    rpcEncoding =
         RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxPayloadSize());
     protocolId = BeaconChainMethodIds.getBlobSidecarsByRootMethodId(1, rpcEncoding);
-    handler = new BlobSidecarsByRootMessageHandler(spec, metricsSystem, combinedChainDataClient);
+    handler =
+        new BlobSidecarsByRootMessageHandler(
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            new EncodedPayloadCache<>(metricsSystem, "blob_sidecars", rpcEncoding, 1024 * 1024));
 
     when(peer.approveRequest()).thenReturn(true);
     when(peer.approveBlobSidecarsRequest(eq(callback), anyLong()))
@@ -136,7 +147,7 @@ public class BlobSidecarsByRootMessageHandlerTest {
         .thenReturn(Optional.of(dataStructureUtil.randomSignedBeaconBlock(currentForkFirstSlot)));
     when(combinedChainDataClient.getStore()).thenReturn(store);
     when(combinedChainDataClient.getRecentChainData()).thenReturn(recentChainData);
-    when(callback.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(callback.respondEncoded(any(), any())).thenReturn(SafeFuture.COMPLETE);
 
     // mock store
     when(store.getGenesisTime()).thenReturn(genesisTime);
@@ -230,19 +241,16 @@ public class BlobSidecarsByRootMessageHandlerTest {
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(3)));
 
     verify(combinedChainDataClient, times(1)).getBlockByBlockRoot(secondBlockRoot);
-    verify(callback, times(3)).respond(blobSidecarCaptor.capture());
+    verify(callback, times(3)).respondEncoded(any(), blobSidecarCaptor.capture());
     verify(callback).completeSuccessfully();
 
-    final List<Bytes32> respondedBlobSidecarBlockRoots =
-        blobSidecarCaptor.getAllValues().stream().map(BlobSidecar::getBlockRoot).toList();
-    final List<Bytes32> blobIdentifiersBlockRoots =
-        List.of(
-            blobIdentifiers.get(0).getBlockRoot(),
-            blobIdentifiers.get(2).getBlockRoot(),
-            blobIdentifiers.get(3).getBlockRoot());
+    final List<Bytes> expectedBlobSidecars =
+        Stream.of(blobIdentifiers.get(0), blobIdentifiers.get(2), blobIdentifiers.get(3))
+            .map(this::encodedBlobSidecar)
+            .toList();
 
-    assertThat(respondedBlobSidecarBlockRoots)
-        .containsExactlyInAnyOrderElementsOf(blobIdentifiersBlockRoots);
+    assertThat(blobSidecarCaptor.getAllValues())
+        .containsExactlyInAnyOrderElementsOf(expectedBlobSidecars);
   }
 
   @TestTemplate
@@ -274,7 +282,7 @@ public class BlobSidecarsByRootMessageHandlerTest {
     verify(peer, times(1))
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(0)));
 
-    verify(callback, never()).respond(any());
+    verify(callback, never()).respondEncoded(any(), any());
     verify(callback).completeWithErrorResponse(rpcExceptionCaptor.capture());
 
     final RpcException rpcException = rpcExceptionCaptor.getValue();
@@ -311,7 +319,7 @@ public class BlobSidecarsByRootMessageHandlerTest {
     verify(peer, times(1))
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(0)));
 
-    verify(callback, never()).respond(any());
+    verify(callback, never()).respondEncoded(any(), any());
     verify(callback).completeWithErrorResponse(rpcExceptionCaptor.capture());
 
     final RpcException rpcException = rpcExceptionCaptor.getValue();
@@ -333,9 +341,9 @@ public class BlobSidecarsByRootMessageHandlerTest {
         new BlobSidecarsByRootRequestMessage(messageSchema, blobIdentifiers),
         callback);
 
-    verify(callback, times(5)).respond(blobSidecarCaptor.capture());
+    verify(callback, times(5)).respondEncoded(any(), blobSidecarCaptor.capture());
 
-    final List<BlobSidecar> sentBlobSidecars = blobSidecarCaptor.getAllValues();
+    final List<Bytes> sentBlobSidecars = blobSidecarCaptor.getAllValues();
 
     // Requesting 5 blob sidecars
     verify(peer, times(1)).approveBlobSidecarsRequest(any(), eq(Long.valueOf(5)));
@@ -343,18 +351,17 @@ public class BlobSidecarsByRootMessageHandlerTest {
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
     // verify sent blob sidecars
-    IntStream.range(0, 5)
-        .forEach(
-            index -> {
-              final BlobIdentifier identifier = blobIdentifiers.get(index);
-              final BlobSidecar blobSidecar = sentBlobSidecars.get(index);
-              assertThat(blobSidecar.getBlockRoot()).isEqualTo(identifier.getBlockRoot());
-              assertThat(blobSidecar.getIndex()).isEqualTo(identifier.getIndex());
-            });
+    assertThat(sentBlobSidecars)
+        .containsExactlyElementsOf(blobIdentifiers.stream().map(this::encodedBlobSidecar).toList());
 
     verify(callback).completeSuccessfully();
   }
 
+  private Bytes encodedBlobSidecar(final BlobIdentifier identifier) {
+    final BlobSidecar blobSidecar = blobSidecarsByBlockRoot.get(identifier.getBlockRoot());
+    return rpcEncoding.encodeSerializedPayload(blobSidecar.sszSerialize());
+  }
+
   private List<BlobIdentifier> prepareBlobIdentifiers(final int count) {
     final List<SignedBeaconBlock> blocks =
         IntStream.range(0, count)
@@ -371,10 +378,12 @@ public class BlobSidecarsByRootMessageHandlerTest {
                         block, dataStructureUtil.randomUInt64(maxBlobsPerBlock).longValue()))
             .toList();
     blobSidecars.forEach(
-        blobSidecar ->
-            when(combinedChainDataClient.getBlobSidecarByBlockRootAndIndex(
-                    blobSidecar.getBlockRoot(), blobSidecar.getIndex()))
-                .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar))));
+        blobSidecar -> {
+          blobSidecarsByBlockRoot.put(blobSidecar.getBlockRoot(), blobSidecar);
+          when(combinedChainDataClient.getBlobSidecarByBlockRootAndIndex(
+                  blobSidecar.getBlockRoot(), blobSidecar.getIndex()))
+              .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar)));
+        });
     return blobSidecars.stream()
         .map(blobsidecar -> new BlobIdentifier(blobsidecar.getBlockRoot(), blobsidecar.getIndex()))
         .toList();
@@ -0,0 +1,117 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+class EncodedPayloadCacheTest {
+  private static final int PAYLOAD_SIZE = 1000;
+
+  private final RpcEncoding encoding = RpcEncoding.createSszSnappyEncoding(1024 * 1024);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final Bytes payloadA = Bytes.random(PAYLOAD_SIZE);
+  private final Bytes payloadB = Bytes.random(PAYLOAD_SIZE);
+  private final Bytes payloadC = Bytes.random(PAYLOAD_SIZE);
+  private final int encodedSize = encoding.encodeSerializedPayload(payloadA).size();
+
+  private final EncodedPayloadCache<String> cache =
+      new EncodedPayloadCache<>(metricsSystem, "test", encoding, 2L * encodedSize);
+
+  @Test
+  void shouldReturnEncodedPayloadAfterItHasBeenEncoded() {
+    assertThat(cache.get("a")).isEmpty();
+
+    final Bytes encodedPayload = cache.encode("a", payloadA);
+
+    assertThat(encodedPayload).isEqualTo(encoding.encodeSerializedPayload(payloadA));
+    assertThat(cache.get("a")).contains(encodedPayload);
+    assertThat(getLookupCount("hit")).isEqualTo(1);
+    assertThat(getLookupCount("miss")).isEqualTo(1);
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK, "rpc_test_payload_cache_bytes_saved_total"))
+        .isEqualTo(PAYLOAD_SIZE);
+  }
+
+  @Test
+  void getOrEncode_shouldOnlySerializeOnMiss() {
+    final AtomicInteger serializeCount = new AtomicInteger();
+
+    final Bytes first =
+        cache.getOrEncode(
+            "a",
+            () -> {
+              serializeCount.incrementAndGet();
+              return payloadA;
+            });
+    final Bytes second =
+        cache.getOrEncode(
+            "a",
+            () -> {
+              serializeCount.incrementAndGet();
+              return payloadA;
+            });
+
+    assertThat(second).isEqualTo(first);
+    assertThat(serializeCount).hasValue(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedPayloadsWhenSizeLimitIsExceeded() {
+    cache.encode("a", payloadA);
+    cache.encode("b", payloadB);
+    // Access a so b becomes the least recently used entry
+    assertThat(cache.get("a")).isPresent();
+
+    cache.encode("c", payloadC);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getCurrentSizeBytes()).isEqualTo(2L * encodedSize);
+    assertThat(cache.get("a")).isPresent();
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.get("c")).isPresent();
+  }
+
+  @Test
+  void shouldNotCachePayloadsLargerThanSizeLimit() {
+    final Bytes largePayload = Bytes.random(PAYLOAD_SIZE * 3);
+
+    final Bytes encodedPayload = cache.encode("large", largePayload);
+
+    assertThat(encodedPayload).isEqualTo(encoding.encodeSerializedPayload(largePayload));
+    assertThat(cache.get("large")).isEmpty();
+    assertThat(cache.getCurrentSizeBytes()).isZero();
+  }
+
+  @Test
+  void shouldReplaceExistingPayloadForSameKey() {
+    cache.encode("a", payloadA);
+    cache.encode("a", payloadB);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getCurrentSizeBytes()).isEqualTo(encodedSize);
+    assertThat(cache.get("a")).contains(encoding.encodeSerializedPayload(payloadB));
+  }
+
+  private long getLookupCount(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK, "rpc_test_payload_cache_total", result);
+  }
+}
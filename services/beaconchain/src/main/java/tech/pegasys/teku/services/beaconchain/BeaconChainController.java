@@ -110,6 +110,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChan
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyTable;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
@@ -169,6 +170,8 @@ import tech.pegasys.teku.statetransition.validation.ProposerSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.SignedBlsToExecutionChangeValidator;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
+import tech.pegasys.teku.statetransition.validation.signatures.BlsMetrics;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
@@ -244,6 +247,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile AsyncRunnerEventThread forkChoiceExecutor;
 
   private volatile AsyncRunner operationPoolAsyncRunner;
+  private volatile AsyncRunner blockSignatureVerificationAsyncRunner;
 
   protected volatile ForkChoice forkChoice;
   protected volatile ForkChoiceTrigger forkChoiceTrigger;
@@ -321,6 +325,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             eth2NetworkConfig.getAsyncP2pMaxThreads(),
             eth2NetworkConfig.getAsyncP2pMaxQueue());
     this.operationPoolAsyncRunner = serviceConfig.createAsyncRunner("operationPoolUpdater", 1);
+    this.blockSignatureVerificationAsyncRunner =
+        serviceConfig.createAsyncRunner("blockSignatureVerification", 2);
     this.timeProvider = serviceConfig.getTimeProvider();
     this.eventChannels = serviceConfig.getEventChannels();
     this.metricsSystem = serviceConfig.getMetricsSystem();
@@ -825,6 +831,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceStateProvider,
             new TickProcessor(spec, recentChainData),
             new MergeTransitionBlockValidator(spec, recentChainData),
+            Optional.of(blockSignatureVerificationAsyncRunner),
             beaconConfig.eth2NetworkConfig().isForkChoiceLateBlockReorgEnabled(),
             debugDataDumper,
             metricsSystem);
@@ -1046,6 +1053,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   protected void initSignatureVerificationService() {
     final P2PConfig p2PConfig = beaconConfig.p2pConfig();
+    BlsMetrics.register(metricsSystem);
     signatureVerificationService =
         new AggregatingSignatureVerificationService(
             metricsSystem,
@@ -1069,9 +1077,16 @@ public class BeaconChainController extends Service implements BeaconChainControl
             "attestations");
     AttestationValidator attestationValidator =
         new AttestationValidator(
-            spec, recentChainData, signatureVerificationService, metricsSystem);
+            spec,
+            recentChainData,
+            signatureVerificationService.withPriority(SignatureVerificationPriority.ATTESTATION),
+            metricsSystem);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(spec, attestationValidator, signatureVerificationService);
+        new AggregateAttestationValidator(
+            spec,
+            attestationValidator,
+            signatureVerificationService.withPriority(SignatureVerificationPriority.AGGREGATE),
+            metricsSystem);
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -1106,7 +1121,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 recentChainData,
                 syncCommitteeStateUtils,
                 timeProvider,
-                signatureVerificationService));
+                signatureVerificationService.withPriority(
+                    SignatureVerificationPriority.SYNC_CONTRIBUTION),
+                metricsSystem));
 
     syncCommitteeMessagePool =
         new SyncCommitteeMessagePool(
@@ -1115,7 +1132,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 spec,
                 recentChainData,
                 syncCommitteeStateUtils,
-                signatureVerificationService,
+                signatureVerificationService.withPriority(
+                    SignatureVerificationPriority.SYNC_COMMITTEE_MESSAGE),
                 timeProvider));
     eventChannels
         .subscribe(SlotEventsChannel.class, syncCommitteeContributionPool)
@@ -1185,6 +1203,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
   }
 
   protected void initSlotProcessor() {
+    final EpochCachePrimer epochCachePrimer =
+        new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner, metricsSystem);
+    eventChannels.subscribe(ChainHeadChannel.class, epochCachePrimer);
     slotProcessor =
         new SlotProcessor(
             spec,
@@ -1194,7 +1215,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner));
+            epochCachePrimer);
   }
 
   public void initAttestationPool() {
@@ -1539,6 +1560,14 @@ public class BeaconChainController extends Service implements BeaconChainControl
     }
     slotProcessor.setCurrentSlot(currentSlot);
     performanceTracker.start(currentSlot);
+    primeValidatorPublicKeys();
+  }
+
+  private void primeValidatorPublicKeys() {
+    final BeaconState finalizedState = recentChainData.getStore().getLatestFinalized().getState();
+    beaconAsyncRunner
+        .runAsync(() -> ValidatorPublicKeyTable.getSharedInstance().prefill(finalizedState))
+        .finish(error -> LOG.warn("Failed to prime validator public keys", error));
   }
 
   protected UInt64 getCurrentSlot(final UInt64 genesisTime) {
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -53,6 +54,19 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
+  /**
+   * Returns the SSZ serialized finalized block at the given slot exactly as stored, avoiding the
+   * cost of deserializing it when it will only be serialized again (e.g. to send to a peer).
+   */
+  SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
+  /**
+   * Returns the SSZ serialized hot or finalized block with the given root exactly as stored.
+   *
+   * @see #getFinalizedBlockAtSlotAsSsz(UInt64)
+   */
+  SafeFuture<Optional<Bytes>> getBlockByBlockRootAsSsz(Bytes32 blockRoot);
+
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
@@ -97,6 +111,9 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<BlobSidecar>> getBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** Returns the SSZ serialized blob sidecar exactly as stored. */
+  SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(SlotAndBlockRootAndBlobIndex key);
+
   SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
   /** This method could return non-canonical blob sidecar keys if the slot is not finalized */
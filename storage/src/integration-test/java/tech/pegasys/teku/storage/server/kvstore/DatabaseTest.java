@@ -46,6 +46,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
@@ -83,6 +84,7 @@ import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.filesystem.FileSystemBlobSidecarsArchiver;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseContext;
@@ -570,6 +572,78 @@ public class DatabaseTest {
     assertThat(database.getSignedBlock(block2.getRoot())).contains(block2.getBlock());
   }
 
+  @TestTemplate
+  public void shouldGetHotAndFinalizedBlocksAndBlobSidecarsAsSsz(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final UInt64 finalizedSlot = addBlocksAndBlobSidecarsAndFinalizeEpoch(2);
+
+    chainBuilder
+        .streamBlocksAndStates(ONE)
+        .map(SignedBlockAndState::getBlock)
+        .forEach(
+            block -> {
+              final Bytes expectedSsz = block.sszSerialize();
+              assertThat(database.getSignedBlockAsSsz(block.getRoot())).contains(expectedSsz);
+              if (block.getSlot().isLessThanOrEqualTo(finalizedSlot)) {
+                assertThat(database.getFinalizedBlockAtSlotAsSsz(block.getSlot()))
+                    .contains(expectedSsz);
+              } else {
+                assertThat(database.getFinalizedBlockAtSlotAsSsz(block.getSlot())).isEmpty();
+              }
+            });
+    chainBuilder
+        .streamBlobSidecars()
+        .forEach(
+            blobSidecar ->
+                assertThat(database.getBlobSidecarAsSsz(blobSidecarToKey(blobSidecar)))
+                    .contains(blobSidecar.sszSerialize()));
+    final BlobSidecar unknownBlobSidecar = dataStructureUtil.randomBlobSidecar();
+    assertThat(database.getSignedBlockAsSsz(dataStructureUtil.randomBytes32())).isEmpty();
+    assertThat(database.getBlobSidecarAsSsz(blobSidecarToKey(unknownBlobSidecar))).isEmpty();
+  }
+
+  @TestTemplate
+  public void combinedChainDataClient_shouldGetHotAndFinalizedBlocksAndBlobSidecarsAsSsz(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    addBlocksAndBlobSidecarsAndFinalizeEpoch(2);
+    // Reload the store so blocks and blob sidecars are read back from the database
+    restartStorage();
+    final SignedBlockAndState head = chainBuilder.getLatestBlockAndState();
+    recentChainData.updateHead(head.getRoot(), head.getSlot());
+    final CombinedChainDataClient client = storageSystem.combinedChainDataClient();
+
+    chainBuilder
+        .streamBlocksAndStates(ONE)
+        .map(SignedBlockAndState::getBlock)
+        .forEach(
+            block ->
+                assertThatSafeFuture(client.getBlockAtSlotExactAsSsz(block.getSlot()))
+                    .isCompletedWithOptionalContaining(block.sszSerialize()));
+    chainBuilder
+        .streamBlobSidecars()
+        .forEach(
+            blobSidecar ->
+                assertThatSafeFuture(
+                        client.getBlobSidecarByKeyAsSsz(blobSidecarToKey(blobSidecar)))
+                    .isCompletedWithOptionalContaining(blobSidecar.sszSerialize()));
+  }
+
+  private UInt64 addBlocksAndBlobSidecarsAndFinalizeEpoch(final long finalizedEpoch) {
+    chainBuilder.generateBlocksUpToSlot(
+        spec.computeStartSlotAtEpoch(UInt64.valueOf(finalizedEpoch + 1)).longValue() + 2,
+        BlockOptions.create().setGenerateRandomBlobs(true));
+    addBlocksAndBlobSidecars(
+        chainBuilder.streamBlocksAndStates().collect(toList()),
+        chainBuilder.streamBlobSidecars().collect(toList()));
+
+    final SignedBlockAndState finalizedBlock =
+        chainBuilder.getLatestBlockAndStateAtEpochBoundary(finalizedEpoch);
+    justifyAndFinalizeEpoch(UInt64.valueOf(finalizedEpoch), finalizedBlock);
+    return finalizedBlock.getSlot();
+  }
+
   private void commit(final StoreTransaction transaction) {
     assertThat(transaction.commit()).isCompleted();
   }
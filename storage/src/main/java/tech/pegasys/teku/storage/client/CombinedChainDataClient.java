@@ -26,12 +26,14 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockInvariants;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
@@ -60,6 +62,8 @@ public class CombinedChainDataClient {
       completedFuture(Optional.empty());
   private static final SafeFuture<Optional<SignedBeaconBlock>> BLOCK_NOT_AVAILABLE =
       completedFuture(Optional.empty());
+  private static final SafeFuture<Optional<Bytes>> SSZ_NOT_AVAILABLE =
+      completedFuture(Optional.empty());
 
   private final RecentChainData recentChainData;
   private final StorageQueryChannel historicalChainData;
@@ -99,6 +103,33 @@ public class CombinedChainDataClient {
     return historicalChainData.getFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the SSZ serialized block proposed at the requested slot. Blocks that are not already
+   * held in memory are returned exactly as stored, without being deserialized.
+   *
+   * @param slot the slot to get the block for
+   * @return the serialized block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getBlockAtSlotExactAsSsz(final UInt64 slot) {
+    if (!isChainDataFullyAvailable()) {
+      return SSZ_NOT_AVAILABLE;
+    }
+
+    // Try to pull root from recent data
+    final Optional<Bytes32> recentRoot = recentChainData.getBlockRootInEffectBySlot(slot);
+    if (recentRoot.isPresent()) {
+      return getBlockByBlockRootAsSsz(recentRoot.get())
+          .thenApply(
+              maybeBlock ->
+                  maybeBlock.filter(
+                      block ->
+                          BeaconBlockInvariants.extractSignedBlockContainerSlot(block)
+                              .equals(slot)));
+    }
+
+    return historicalChainData.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   /**
    * Returns the block proposed for the requested slot on the chain identified by <code>
    * headBlockRoot</code>. If the slot was empty, no block is returned.
@@ -492,6 +523,16 @@ public class CombinedChainDataClient {
             });
   }
 
+  public SafeFuture<Optional<Bytes>> getBlockByBlockRootAsSsz(final Bytes32 blockRoot) {
+    if (isStoreAvailable()) {
+      final Optional<SignedBeaconBlock> recentBlock = getStore().getBlockIfAvailable(blockRoot);
+      if (recentBlock.isPresent()) {
+        return completedFuture(recentBlock.map(SignedBeaconBlock::sszSerialize));
+      }
+    }
+    return historicalChainData.getBlockByBlockRootAsSsz(blockRoot);
+  }
+
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
     return historicalChainData.getEarliestAvailableBlobSidecarSlot();
   }
@@ -539,6 +580,19 @@ public class CombinedChainDataClient {
         .orElseGet(() -> historicalChainData.getBlobSidecar(key));
   }
 
+  public SafeFuture<Optional<Bytes>> getBlobSidecarByKeyAsSsz(
+      final SlotAndBlockRootAndBlobIndex key) {
+    return recentChainData
+        .getBlobSidecars(key.getSlotAndBlockRoot())
+        .map(
+            blobSidecars ->
+                key.getBlobIndex().isLessThan(blobSidecars.size())
+                    ? completedFuture(
+                        Optional.of(blobSidecars.get(key.getBlobIndex().intValue()).sszSerialize()))
+                    : SSZ_NOT_AVAILABLE)
+        .orElseGet(() -> historicalChainData.getBlobSidecarAsSsz(key));
+  }
+
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
     return historicalChainData.getBlobSidecarKeys(startSlot, endSlot, limit);
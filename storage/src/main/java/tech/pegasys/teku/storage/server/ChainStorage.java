@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -186,6 +187,16 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return SafeFuture.of(() -> database.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlockByBlockRootAsSsz(final Bytes32 blockRoot) {
+    return SafeFuture.of(() -> database.getSignedBlockAsSsz(blockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
@@ -322,6 +333,11 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getBlobSidecar(key));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return SafeFuture.of(() -> database.getBlobSidecarAsSsz(key));
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -135,6 +136,16 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlockByBlockRootAsSsz(final Bytes32 blockRoot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRootAsSsz(blockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
@@ -222,6 +233,11 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarAsSsz(key));
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
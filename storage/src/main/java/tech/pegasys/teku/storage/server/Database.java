@@ -63,6 +63,9 @@ public interface Database extends AutoCloseable {
 
   Optional<BlobSidecar> getBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** Returns the blob sidecar exactly as stored, without deserializing it. */
+  Optional<Bytes> getBlobSidecarAsSsz(SlotAndBlockRootAndBlobIndex key);
+
   Optional<BlobSidecar> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
   /**
@@ -128,6 +131,15 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Return the SSZ serialized finalized block at this slot, exactly as stored, if such a block
+   * exists.
+   *
+   * @param slot The slot to query
+   * @return Returns the serialized finalized block proposed at this slot, if such a block exists
+   */
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
   /**
    * @return The earliest available finalized block's slot
    */
@@ -152,6 +164,9 @@ public interface Database extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getSignedBlock(Bytes32 root);
 
+  /** Returns the SSZ serialized hot or finalized block with the given root, exactly as stored. */
+  Optional<Bytes> getSignedBlockAsSsz(Bytes32 root);
+
   Optional<BeaconState> getHotState(Bytes32 root);
 
   Optional<UInt64> getGenesisTime();
@@ -209,6 +209,11 @@ public class KvStoreDatabase implements Database {
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return dao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
@@ -243,6 +248,11 @@ public class KvStoreDatabase implements Database {
         .or(() -> dao.getNonCanonicalBlock(root));
   }
 
+  @Override
+  public Optional<Bytes> getSignedBlockAsSsz(final Bytes32 root) {
+    return dao.getHotBlockAsSsz(root).or(() -> dao.getFinalizedBlockAsSsz(root));
+  }
+
   @Override
   public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Set<Bytes32> blockRoots) {
     return blockRoots.stream()
@@ -933,6 +943,11 @@ public class KvStoreDatabase implements Database {
     return maybePayload.map(payload -> spec.deserializeBlobSidecar(payload, key.getSlot()));
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return dao.getBlobSidecar(key);
+  }
+
   @Override
   public Optional<BlobSidecar> getNonCanonicalBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     final Optional<Bytes> maybePayload = dao.getNonCanonicalBlobSidecar(key);
@@ -265,6 +265,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
@@ -552,6 +557,12 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         .flatMap(this::getFinalizedBlockAtSlot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return db.get(schema.getColumnSlotsByFinalizedRoot(), root)
+        .flatMap(this::getFinalizedBlockAtSlotAsSsz);
+  }
+
   @Override
   public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
     return db.get(schema.getVariableFinalizedDepositSnapshot());
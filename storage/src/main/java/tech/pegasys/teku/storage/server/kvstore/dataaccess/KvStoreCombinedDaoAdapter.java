@@ -151,6 +151,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getFinalizedBlock(root);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return finalizedDao.getFinalizedBlockAsSsz(root);
+  }
+
   @Override
   @MustBeClosed
   public FinalizedUpdater finalizedUpdater() {
@@ -162,6 +167,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return finalizedDao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
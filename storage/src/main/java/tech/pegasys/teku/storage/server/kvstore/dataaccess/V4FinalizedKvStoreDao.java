@@ -64,6 +64,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
         .or(
@@ -214,6 +218,11 @@ public class V4FinalizedKvStoreDao {
         .flatMap(this::getFinalizedBlockAtSlot);
   }
 
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return db.get(schema.getColumnSlotsByFinalizedRoot(), root)
+        .flatMap(this::getFinalizedBlockAtSlotAsSsz);
+  }
+
   @MustBeClosed
   public V4FinalizedUpdater finalizedUpdater() {
     return new V4FinalizedKvStoreDao.V4FinalizedUpdater(db, schema, stateStorageLogic.updater());
@@ -103,6 +103,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return Optional.empty();
@@ -138,6 +143,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getSignedBlockAsSsz(final Bytes32 root) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
     return Optional.empty();
@@ -300,6 +310,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<BlobSidecar> getNonCanonicalBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     return Optional.empty();